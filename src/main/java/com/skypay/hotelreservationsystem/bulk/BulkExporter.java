@@ -0,0 +1,83 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import com.skypay.hotelreservationsystem.repository.BookingRepository;
+import com.skypay.hotelreservationsystem.repository.RoomRepository;
+import com.skypay.hotelreservationsystem.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes rooms, users then bookings in the format read by BulkLoader, streaming each repository
+ * through a fixed-size buffer.
+ */
+public class BulkExporter {
+    private final RoomRepository rooms;
+    private final UserRepository users;
+    private final BookingRepository bookings;
+
+    public BulkExporter(RoomRepository rooms, UserRepository users, BookingRepository bookings) {
+        this.rooms = rooms;
+        this.users = users;
+        this.bookings = bookings;
+    }
+
+    public void export(Path path, BulkFormat format) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            RecordWriter writer = new RecordWriter(channel, format, BulkLoader.DEFAULT_BUFFER_SIZE);
+
+            try {
+                rooms.forEach(room -> write(writer, w -> {
+                    w.begin(RecordType.ROOM);
+                    w.field(Field.ROOM_NUMBER, room.getRoomNumber());
+                    w.field(Field.ROOM_TYPE, room.getRoomType().name());
+                    w.field(Field.PRICE_PER_NIGHT, room.getPricePerNight());
+                    w.field(Field.CREATED_AT, room.getCreatedAt().getTime());
+                    w.end();
+                }));
+                users.forEach(user -> write(writer, w -> {
+                    w.begin(RecordType.USER);
+                    w.field(Field.USER_ID, user.getUserId());
+                    w.field(Field.BALANCE, user.getBalance());
+                    w.field(Field.CREATED_AT, user.getCreatedAt().getTime());
+                    w.end();
+                }));
+                bookings.forEach(booking -> write(writer, w -> {
+                    w.begin(RecordType.BOOKING);
+                    w.field(Field.BOOKING_ID, booking.getBookingId());
+                    w.field(Field.USER_ID, booking.getUserId());
+                    w.field(Field.ROOM_NUMBER, booking.getRoomNumber());
+                    w.field(Field.CHECK_IN, booking.getCheckIn());
+                    w.field(Field.CHECK_OUT, booking.getCheckOut());
+                    w.field(Field.TOTAL_PRICE, booking.getTotalPrice());
+                    w.field(Field.CREATED_AT, booking.getCreatedAt().getTime());
+                    w.field(Field.ROOM_TYPE_SNAPSHOT, booking.getRoomTypeSnapshot().name());
+                    w.field(Field.ROOM_PRICE_SNAPSHOT, booking.getRoomPriceSnapshot());
+                    w.field(Field.USER_BALANCE_SNAPSHOT, booking.getUserBalanceSnapshot());
+                    w.end();
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            writer.flush();
+        }
+    }
+
+    private interface RecordAction {
+        void write(RecordWriter writer) throws IOException;
+    }
+
+    // Repository callbacks cannot throw checked exceptions, tunnel them out
+    private static void write(RecordWriter writer, RecordAction action) {
+        try {
+            action.write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import java.nio.file.Path;
+
+public enum BulkFormat {
+    CSV,
+    NDJSON;
+
+    // .ndjson and .jsonl files are NDJSON, anything else is CSV
+    public static BulkFormat forPath(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,55 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public class BulkLoadResult {
+    // Only the first errors are kept so a bad file cannot exhaust memory
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private long rooms;
+    private long users;
+    private long bookings;
+    private long rejected;
+    // When the first batch of bookings was saved, null if none was
+    private Instant firstBookingAt;
+    private final List<String> errors = new ArrayList<>();
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public long getLoaded() {
+        return rooms + users + bookings;
+    }
+
+    void roomLoaded() {
+        rooms++;
+    }
+
+    void userLoaded() {
+        users++;
+    }
+
+    void bookingLoaded() {
+        bookings++;
+    }
+
+    void bookingsSaved() {
+        if (firstBookingAt == null) {
+            firstBookingAt = Instant.now();
+        }
+    }
+
+    void rowRejected(long lineNumber, String message) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("Line " + lineNumber + ": " + message);
+        }
+    }
+}
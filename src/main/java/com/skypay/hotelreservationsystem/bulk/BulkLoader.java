@@ -0,0 +1,302 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.repository.BookingRepository;
+import com.skypay.hotelreservationsystem.repository.RoomRepository;
+import com.skypay.hotelreservationsystem.repository.UserRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static com.skypay.hotelreservationsystem.util.Utils.toDate;
+
+/**
+ * Streams rooms, users and bookings from a CSV or NDJSON file into the repositories, saving
+ * them in batches of batchSize rows with saveAll. Rows go through the same checks as Service
+ * (positive ids, non-negative amounts, check-out after check-in, existing user and room,
+ * no overlapping stay); invalid rows are reported and skipped.
+ * <p>
+ * Bookings are loaded as history: they keep their id, price and snapshots, and balances are
+ * not debited. A missing createdAt defaults to the load time, and missing snapshots are taken
+ * from the room and user as stored when the row is loaded. Blank lines and lines starting
+ * with '#' are skipped.
+ */
+public class BulkLoader {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    private static final int MAX_CACHED_DATES = 4096;
+
+    private final RoomRepository rooms;
+    private final UserRepository users;
+    private final BookingRepository bookings;
+    private final int batchSize;
+
+    private final List<Room> pendingRooms = new ArrayList<>();
+    private final List<User> pendingUsers = new ArrayList<>();
+    private final List<Booking> pendingBookings = new ArrayList<>();
+    // Pending bookings per room ordered by check-in, for overlap checks before they are saved
+    private final Map<Integer, TreeMap<Long, Booking>> pendingByRoom = new HashMap<>();
+    // Ids of the rows not saved yet; older ones are looked up by primary key in the repository,
+    // so memory stays bounded by the batch size whatever the size of the file
+    private final Set<Integer> pendingRoomIds = new HashSet<>();
+    private final Set<Integer> pendingUserIds = new HashSet<>();
+    private final Set<Integer> pendingBookingIds = new HashSet<>();
+    private final Map<Integer, Date> dates = new HashMap<>();
+    private BulkLoadResult result;
+    private Consumer<? super List<Booking>> batchSaved;
+
+    public BulkLoader(RoomRepository rooms, UserRepository users, BookingRepository bookings) {
+        this(rooms, users, bookings, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkLoader(RoomRepository rooms, UserRepository users, BookingRepository bookings, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.rooms = rooms;
+        this.users = users;
+        this.bookings = bookings;
+        this.batchSize = batchSize;
+    }
+
+    public BulkLoadResult load(Path path, BulkFormat format) throws IOException {
+        return load(path, format, batch -> {
+        });
+    }
+
+    // batchSaved is called with each batch of bookings once it has been saved; the list is reused afterwards
+    public BulkLoadResult load(Path path, BulkFormat format, Consumer<? super List<Booking>> batchSaved) throws IOException {
+        this.batchSaved = batchSaved;
+        BulkLoadResult result = new BulkLoadResult();
+        this.result = result;
+        RowParser parser = RowParser.forFormat(format);
+        Row row = new Row();
+
+        LineReader.read(path, DEFAULT_BUFFER_SIZE, (buf, start, end, lineNumber) -> {
+            if (start == end || buf[start] == '#') {
+                return;
+            }
+            try {
+                parser.parse(buf, start, end, row);
+                apply(row, result);
+            } catch (IllegalArgumentException e) {
+                result.rowRejected(lineNumber, e.getMessage());
+            }
+        });
+
+        flushRooms();
+        flushUsers();
+        flushBookings();
+        return result;
+    }
+
+    private void apply(Row row, BulkLoadResult result) {
+        switch (row.type()) {
+            case ROOM -> {
+                loadRoom(row);
+                result.roomLoaded();
+            }
+            case USER -> {
+                loadUser(row);
+                result.userLoaded();
+            }
+            case BOOKING -> {
+                loadBooking(row);
+                result.bookingLoaded();
+            }
+        }
+    }
+
+    private void loadRoom(Row row) {
+        int roomNumber = row.intValue(Field.ROOM_NUMBER);
+        int price = row.intValue(Field.PRICE_PER_NIGHT);
+        if (roomNumber <= 0) {
+            throw new IllegalArgumentException("Room number must be positive");
+        }
+        if (price < 0) {
+            throw new IllegalArgumentException("Price cannot be negative");
+        }
+
+        pendingRooms.add(new Room(roomNumber, roomType(row, Field.ROOM_TYPE), price, createdAt(row)));
+        pendingRoomIds.add(roomNumber);
+        if (pendingRooms.size() >= batchSize) {
+            flushRooms();
+        }
+    }
+
+    private void loadUser(Row row) {
+        int userId = row.intValue(Field.USER_ID);
+        int balance = row.intValue(Field.BALANCE);
+        if (userId <= 0) {
+            throw new IllegalArgumentException("User ID must be positive");
+        }
+        if (balance < 0) {
+            throw new IllegalArgumentException("Balance cannot be negative");
+        }
+
+        pendingUsers.add(new User(userId, balance, createdAt(row)));
+        pendingUserIds.add(userId);
+        if (pendingUsers.size() >= batchSize) {
+            flushUsers();
+        }
+    }
+
+    private void loadBooking(Row row) {
+        int bookingId = row.intValue(Field.BOOKING_ID);
+        int userId = row.intValue(Field.USER_ID);
+        int roomNumber = row.intValue(Field.ROOM_NUMBER);
+        int totalPrice = row.intValue(Field.TOTAL_PRICE);
+
+        if (bookingId <= 0) {
+            throw new IllegalArgumentException("Booking ID must be positive");
+        }
+        if (pendingBookingIds.contains(bookingId) || bookings.existsById(bookingId)) {
+            throw new IllegalArgumentException("Booking with ID " + bookingId + " already exists");
+        }
+        if (userId <= 0 || !userExists(userId)) {
+            throw new IllegalArgumentException("User with ID " + userId + " not found");
+        }
+        if (roomNumber <= 0 || !roomExists(roomNumber)) {
+            throw new IllegalArgumentException("Room with number " + roomNumber + " not found");
+        }
+
+        Room room = row.has(Field.ROOM_TYPE_SNAPSHOT) && row.has(Field.ROOM_PRICE_SNAPSHOT)
+                ? null
+                : storedRoom(roomNumber);
+        RoomType roomType = row.has(Field.ROOM_TYPE_SNAPSHOT)
+                ? roomType(row, Field.ROOM_TYPE_SNAPSHOT)
+                : room.getRoomType();
+        int roomPrice = row.has(Field.ROOM_PRICE_SNAPSHOT)
+                ? row.intValue(Field.ROOM_PRICE_SNAPSHOT)
+                : room.getPricePerNight();
+        int userBalance = row.has(Field.USER_BALANCE_SNAPSHOT)
+                ? row.intValue(Field.USER_BALANCE_SNAPSHOT)
+                : storedUser(userId).getBalance();
+        if (totalPrice < 0 || roomPrice < 0) {
+            throw new IllegalArgumentException("Price cannot be negative");
+        }
+        if (userBalance < 0) {
+            throw new IllegalArgumentException("Balance cannot be negative");
+        }
+
+        Date checkIn = date(row, Field.CHECK_IN);
+        Date checkOut = date(row, Field.CHECK_OUT);
+        if (checkOut.compareTo(checkIn) <= 0) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        if (overlapsPending(roomNumber, checkIn, checkOut) || bookings.existsOverlap(roomNumber, checkIn, checkOut)) {
+            throw new IllegalArgumentException("Room " + roomNumber + " is not available for the selected period");
+        }
+
+        Booking booking = new Booking(bookingId, userId, roomNumber, checkIn, checkOut, totalPrice,
+                createdAt(row), roomType, roomPrice, userBalance);
+        pendingBookings.add(booking);
+        pendingByRoom.computeIfAbsent(roomNumber, k -> new TreeMap<>()).put(checkIn.getTime(), booking);
+        pendingBookingIds.add(bookingId);
+        if (pendingBookings.size() >= batchSize) {
+            flushBookings();
+        }
+    }
+
+    // Pending stays of one room never overlap, so only the latest one starting before checkOut can
+    private boolean overlapsPending(int roomNumber, Date checkIn, Date checkOut) {
+        TreeMap<Long, Booking> roomBookings = pendingByRoom.get(roomNumber);
+        if (roomBookings == null) {
+            return false;
+        }
+        Map.Entry<Long, Booking> candidate = roomBookings.lowerEntry(checkOut.getTime());
+        return candidate != null && candidate.getValue().getCheckOut().getTime() > checkIn.getTime();
+    }
+
+    // Pending rows first, then the repository for rooms already saved by this load or before it
+    private boolean roomExists(int roomNumber) {
+        return pendingRoomIds.contains(roomNumber) || rooms.findById(roomNumber) != null;
+    }
+
+    private boolean userExists(int userId) {
+        return pendingUserIds.contains(userId) || users.findById(userId) != null;
+    }
+
+    // Only needed for rows without snapshots, so pending rows are saved first rather than kept by id
+    private Room storedRoom(int roomNumber) {
+        flushRooms();
+        return rooms.findById(roomNumber);
+    }
+
+    private User storedUser(int userId) {
+        flushUsers();
+        return users.findById(userId);
+    }
+
+    private static Date createdAt(Row row) {
+        return row.has(Field.CREATED_AT) ? new Date(row.longValue(Field.CREATED_AT)) : new Date();
+    }
+
+    private static RoomType roomType(Row row, Field field) {
+        String name = row.stringValue(field);
+        try {
+            return RoomType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown room type: " + name);
+        }
+    }
+
+    // Stays share few distinct dates, so conversions are cached
+    private Date date(Row row, Field field) {
+        int packed = row.dateValue(field);
+        Date date = dates.get(packed);
+        if (date == null) {
+            try {
+                date = toDate(LocalDate.of(packed / 10000, packed / 100 % 100, packed % 100));
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException("Invalid date for " + field.jsonName + ": " + row.stringValue(field));
+            }
+            if (dates.size() >= MAX_CACHED_DATES) {
+                dates.clear();
+            }
+            dates.put(packed, date);
+        }
+        return date;
+    }
+
+    private void flushRooms() {
+        if (!pendingRooms.isEmpty()) {
+            rooms.saveAll(pendingRooms);
+            pendingRooms.clear();
+            pendingRoomIds.clear();
+        }
+    }
+
+    private void flushUsers() {
+        if (!pendingUsers.isEmpty()) {
+            users.saveAll(pendingUsers);
+            pendingUsers.clear();
+            pendingUserIds.clear();
+        }
+    }
+
+    private void flushBookings() {
+        if (!pendingBookings.isEmpty()) {
+            bookings.saveAll(pendingBookings);
+            result.bookingsSaved();
+            batchSaved.accept(pendingBookings);
+            pendingBookings.clear();
+            pendingBookingIds.clear();
+            pendingByRoom.clear();
+        }
+    }
+}
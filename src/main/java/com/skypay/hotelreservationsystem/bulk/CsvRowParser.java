@@ -0,0 +1,39 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+/**
+ * Comma separated, record type first, columns as listed in RecordType; optional columns can only
+ * be left out from the end. No quoting: none of the values can contain a comma.
+ */
+class CsvRowParser implements RowParser {
+    private final int[] starts = new int[RecordType.MAX_COLUMNS];
+    private final int[] ends = new int[RecordType.MAX_COLUMNS];
+
+    @Override
+    public void parse(byte[] buf, int start, int end, Row row) {
+        int count = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || buf[i] == ',') {
+                if (count == RecordType.MAX_COLUMNS) {
+                    throw new IllegalArgumentException("Too many fields");
+                }
+                starts[count] = fieldStart;
+                ends[count] = i;
+                count++;
+                fieldStart = i + 1;
+            }
+        }
+
+        RecordType type = RecordType.forName(buf, starts[0], ends[0]);
+        if (count < type.requiredColumns || count > type.columns.length) {
+            throw new IllegalArgumentException("Expected " + type.requiredColumns + " to " + type.columns.length
+                    + " fields for " + type.name + ", got " + count);
+        }
+
+        row.reset(buf);
+        for (int i = 0; i < count; i++) {
+            row.set(type.columns[i], starts[i], ends[i]);
+        }
+        row.resolveType();
+    }
+}
@@ -0,0 +1,42 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Every column that can appear in a bulk record, named as in NDJSON.
+ */
+enum Field {
+    TYPE("type"),
+    ROOM_NUMBER("roomNumber"),
+    ROOM_TYPE("roomType"),
+    PRICE_PER_NIGHT("pricePerNight"),
+    USER_ID("userId"),
+    BALANCE("balance"),
+    BOOKING_ID("bookingId"),
+    CHECK_IN("checkIn"),
+    CHECK_OUT("checkOut"),
+    TOTAL_PRICE("totalPrice"),
+    CREATED_AT("createdAt"),
+    ROOM_TYPE_SNAPSHOT("roomTypeSnapshot"),
+    ROOM_PRICE_SNAPSHOT("roomPriceSnapshot"),
+    USER_BALANCE_SNAPSHOT("userBalanceSnapshot");
+
+    static final Field[] ALL = values();
+
+    final String jsonName;
+    final byte[] jsonKey;
+
+    Field(String jsonName) {
+        this.jsonName = jsonName;
+        this.jsonKey = jsonName.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    static Field forJsonKey(byte[] buf, int start, int end) {
+        for (Field field : ALL) {
+            if (Row.bytesEqual(field.jsonKey, buf, start, end)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
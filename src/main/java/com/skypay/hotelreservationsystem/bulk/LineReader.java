@@ -0,0 +1,62 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through a single fixed-size buffer and hands out each line as a byte range of
+ * that buffer, so memory stays bounded whatever the file size.
+ */
+final class LineReader {
+
+    interface LineHandler {
+        // buf[start, end) without the line terminator, only valid during the call
+        void onLine(byte[] buf, int start, int end, long lineNumber);
+    }
+
+    private LineReader() {
+    }
+
+    static void read(Path path, int bufferSize, LineHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+            byte[] bytes = buffer.array();
+            long lineNumber = 0;
+
+            while (true) {
+                int read = channel.read(buffer);
+                int limit = buffer.position();
+                int lineStart = 0;
+
+                for (int i = 0; i < limit; i++) {
+                    if (bytes[i] == '\n') {
+                        handler.onLine(bytes, lineStart, trimCarriageReturn(bytes, lineStart, i), ++lineNumber);
+                        lineStart = i + 1;
+                    }
+                }
+
+                if (read < 0) {
+                    // Last line without a terminator
+                    if (lineStart < limit) {
+                        handler.onLine(bytes, lineStart, trimCarriageReturn(bytes, lineStart, limit), ++lineNumber);
+                    }
+                    return;
+                }
+                if (lineStart == 0 && limit == bytes.length) {
+                    throw new IOException("Line " + (lineNumber + 1) + " is longer than " + bufferSize + " bytes");
+                }
+
+                // Move the partial line to the front and read the rest behind it
+                System.arraycopy(bytes, lineStart, bytes, 0, limit - lineStart);
+                buffer.position(limit - lineStart);
+            }
+        }
+    }
+
+    private static int trimCarriageReturn(byte[] bytes, int start, int end) {
+        return end > start && bytes[end - 1] == '\r' ? end - 1 : end;
+    }
+}
@@ -0,0 +1,94 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One flat JSON object per line, e.g. {"type":"user","userId":1,"balance":5000,"createdAt":0}.
+ * Values are numbers or strings without escapes; unknown keys are ignored.
+ */
+class NdjsonRowParser implements RowParser {
+
+    @Override
+    public void parse(byte[] buf, int start, int end, Row row) {
+        row.reset(buf);
+
+        int i = skipWhitespace(buf, start, end);
+        i = expect(buf, i, end, '{');
+        i = skipWhitespace(buf, i, end);
+        if (i < end && buf[i] == '}') {
+            i++;
+        } else {
+            while (true) {
+                // "key"
+                i = expect(buf, skipWhitespace(buf, i, end), end, '"');
+                int keyStart = i;
+                i = endOfString(buf, i, end);
+                Field field = Field.forJsonKey(buf, keyStart, i);
+                i = expect(buf, skipWhitespace(buf, i + 1, end), end, ':');
+                i = skipWhitespace(buf, i, end);
+
+                // value
+                int valueStart;
+                int valueEnd;
+                if (i < end && buf[i] == '"') {
+                    valueStart = i + 1;
+                    valueEnd = endOfString(buf, valueStart, end);
+                    i = valueEnd + 1;
+                } else {
+                    valueStart = i;
+                    while (i < end && buf[i] != ',' && buf[i] != '}' && !isWhitespace(buf[i])) {
+                        i++;
+                    }
+                    valueEnd = i;
+                }
+                if (field != null) {
+                    row.set(field, valueStart, valueEnd);
+                }
+
+                i = skipWhitespace(buf, i, end);
+                if (i < end && buf[i] == ',') {
+                    i++;
+                } else {
+                    i = expect(buf, i, end, '}');
+                    break;
+                }
+            }
+        }
+
+        if (skipWhitespace(buf, i, end) != end) {
+            throw new IllegalArgumentException("Unexpected content after JSON object");
+        }
+        row.resolveType();
+    }
+
+    private static int endOfString(byte[] buf, int i, int end) {
+        for (; i < end; i++) {
+            if (buf[i] == '"') {
+                return i;
+            }
+            if (buf[i] == '\\') {
+                throw new IllegalArgumentException("Escaped strings are not supported");
+            }
+        }
+        throw new IllegalArgumentException("Unterminated string");
+    }
+
+    private static int expect(byte[] buf, int i, int end, char expected) {
+        if (i >= end || buf[i] != expected) {
+            String found = i < end ? new String(buf, i, 1, StandardCharsets.UTF_8) : "end of line";
+            throw new IllegalArgumentException("Expected '" + expected + "' but found " + found);
+        }
+        return i + 1;
+    }
+
+    private static int skipWhitespace(byte[] buf, int i, int end) {
+        while (i < end && isWhitespace(buf[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
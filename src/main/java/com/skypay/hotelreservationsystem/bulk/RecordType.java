@@ -0,0 +1,40 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.skypay.hotelreservationsystem.bulk.Field.*;
+
+/**
+ * Record kinds and their CSV column order. Dates are yyyy-MM-dd, createdAt is epoch milliseconds.
+ * Columns after the first requiredColumns (createdAt, then the booking snapshots) are optional.
+ */
+enum RecordType {
+    ROOM("room", 4, TYPE, ROOM_NUMBER, ROOM_TYPE, PRICE_PER_NIGHT, CREATED_AT),
+    USER("user", 3, TYPE, USER_ID, BALANCE, CREATED_AT),
+    BOOKING("booking", 7, TYPE, BOOKING_ID, USER_ID, ROOM_NUMBER, CHECK_IN, CHECK_OUT, TOTAL_PRICE, CREATED_AT,
+            ROOM_TYPE_SNAPSHOT, ROOM_PRICE_SNAPSHOT, USER_BALANCE_SNAPSHOT);
+
+    static final int MAX_COLUMNS = 11;
+
+    final String name;
+    final byte[] nameBytes;
+    final int requiredColumns;
+    final Field[] columns;
+
+    RecordType(String name, int requiredColumns, Field... columns) {
+        this.name = name;
+        this.nameBytes = name.getBytes(StandardCharsets.US_ASCII);
+        this.requiredColumns = requiredColumns;
+        this.columns = columns;
+    }
+
+    static RecordType forName(byte[] buf, int start, int end) {
+        for (RecordType type : values()) {
+            if (Row.bytesEqual(type.nameBytes, buf, start, end)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unknown record type: " + new String(buf, start, end - start, StandardCharsets.UTF_8));
+    }
+}
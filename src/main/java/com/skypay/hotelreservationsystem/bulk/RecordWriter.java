@@ -0,0 +1,130 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Encodes records into a fixed-size buffer that is written to the channel whenever it fills up.
+ */
+final class RecordWriter {
+    // Longest possible record is well under this, so a record never has to be split
+    private static final int MAX_RECORD_SIZE = 1024;
+
+    private final FileChannel channel;
+    private final BulkFormat format;
+    private final ByteBuffer buffer;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    RecordWriter(FileChannel channel, BulkFormat format, int bufferSize) {
+        this.channel = channel;
+        this.format = format;
+        this.buffer = ByteBuffer.allocate(Math.max(bufferSize, MAX_RECORD_SIZE));
+    }
+
+    void begin(RecordType type) throws IOException {
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            flush();
+        }
+        if (format == BulkFormat.NDJSON) {
+            putAscii("{\"type\":\"");
+            buffer.put(type.nameBytes);
+            buffer.put((byte) '"');
+        } else {
+            buffer.put(type.nameBytes);
+        }
+    }
+
+    void field(Field field, long value) {
+        key(field);
+        putLong(value);
+    }
+
+    void field(Field field, String value) {
+        key(field);
+        if (format == BulkFormat.NDJSON) {
+            buffer.put((byte) '"');
+            buffer.put(value.getBytes(StandardCharsets.UTF_8));
+            buffer.put((byte) '"');
+        } else {
+            buffer.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    void field(Field field, Date date) {
+        LocalDate day = Instant.ofEpochMilli(date.getTime()).atZone(zone).toLocalDate();
+        key(field);
+        if (format == BulkFormat.NDJSON) {
+            buffer.put((byte) '"');
+        }
+        putPadded(day.getYear(), 4);
+        buffer.put((byte) '-');
+        putPadded(day.getMonthValue(), 2);
+        buffer.put((byte) '-');
+        putPadded(day.getDayOfMonth(), 2);
+        if (format == BulkFormat.NDJSON) {
+            buffer.put((byte) '"');
+        }
+    }
+
+    void end() {
+        if (format == BulkFormat.NDJSON) {
+            buffer.put((byte) '}');
+        }
+        buffer.put((byte) '\n');
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void key(Field field) {
+        if (format == BulkFormat.NDJSON) {
+            putAscii(",\"");
+            buffer.put(field.jsonKey);
+            putAscii("\":");
+        } else {
+            buffer.put((byte) ',');
+        }
+    }
+
+    private void putAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            buffer.put((byte) s.charAt(i));
+        }
+    }
+
+    private void putLong(long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            if (value == Long.MIN_VALUE) {
+                putAscii("9223372036854775808");
+                return;
+            }
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        putPadded(value, digits);
+    }
+
+    private void putPadded(long value, int width) {
+        int position = buffer.position();
+        for (int i = width - 1; i >= 0; i--) {
+            buffer.put(position + i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(position + width);
+    }
+}
@@ -0,0 +1,114 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * One parsed record as offsets into the read buffer. Values are decoded on demand straight from
+ * the bytes, and the same instance is reused for every line.
+ */
+final class Row {
+    private final int[] starts = new int[Field.ALL.length];
+    private final int[] ends = new int[Field.ALL.length];
+    private byte[] buf;
+    private RecordType type;
+
+    void reset(byte[] buf) {
+        this.buf = buf;
+        this.type = null;
+        Arrays.fill(starts, -1);
+    }
+
+    void set(Field field, int start, int end) {
+        starts[field.ordinal()] = start;
+        ends[field.ordinal()] = end;
+    }
+
+    RecordType type() {
+        return type;
+    }
+
+    // Resolves the record type and checks that its required columns are present
+    void resolveType() {
+        int start = starts[Field.TYPE.ordinal()];
+        if (start < 0) {
+            throw new IllegalArgumentException("Missing record type");
+        }
+        type = RecordType.forName(buf, start, ends[Field.TYPE.ordinal()]);
+        for (int i = 0; i < type.requiredColumns; i++) {
+            if (!has(type.columns[i])) {
+                throw new IllegalArgumentException("Missing " + type.columns[i].jsonName + " for " + type.name);
+            }
+        }
+    }
+
+    boolean has(Field field) {
+        return starts[field.ordinal()] >= 0;
+    }
+
+    int intValue(Field field) {
+        long value = longValue(field);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Number out of range for " + field.jsonName);
+        }
+        return (int) value;
+    }
+
+    long longValue(Field field) {
+        int i = starts[field.ordinal()];
+        int end = ends[field.ordinal()];
+        boolean negative = i < end && buf[i] == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == end || end - i > 18) {
+            throw invalidNumber(field);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidNumber(field);
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    String stringValue(Field field) {
+        int start = starts[field.ordinal()];
+        return new String(buf, start, ends[field.ordinal()] - start, StandardCharsets.UTF_8);
+    }
+
+    // yyyy-MM-dd packed as yyyyMMdd, calendar validity is checked by the caller
+    int dateValue(Field field) {
+        int s = starts[field.ordinal()];
+        if (ends[field.ordinal()] - s != 10 || buf[s + 4] != '-' || buf[s + 7] != '-') {
+            throw invalidDate(field);
+        }
+        int packed = 0;
+        for (int i = s; i < s + 10; i++) {
+            if (i == s + 4 || i == s + 7) {
+                continue;
+            }
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidDate(field);
+            }
+            packed = packed * 10 + digit;
+        }
+        return packed;
+    }
+
+    private IllegalArgumentException invalidNumber(Field field) {
+        return new IllegalArgumentException("Invalid number for " + field.jsonName + ": " + stringValue(field));
+    }
+
+    private IllegalArgumentException invalidDate(Field field) {
+        return new IllegalArgumentException("Invalid date for " + field.jsonName + ": " + stringValue(field));
+    }
+
+    static boolean bytesEqual(byte[] expected, byte[] buf, int start, int end) {
+        return Arrays.equals(expected, 0, expected.length, buf, start, end);
+    }
+}
@@ -0,0 +1,11 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+interface RowParser {
+
+    // Fills row from buf[start, end), throws IllegalArgumentException for malformed input
+    void parse(byte[] buf, int start, int end, Row row);
+
+    static RowParser forFormat(BulkFormat format) {
+        return format == BulkFormat.NDJSON ? new NdjsonRowParser() : new CsvRowParser();
+    }
+}
@@ -0,0 +1,31 @@
+package com.skypay.hotelreservationsystem.config;
+
+import com.skypay.hotelreservationsystem.repository.jdbc.JdbcDatabase;
+import com.skypay.hotelreservationsystem.service.Service;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ServiceConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "hotel.persistence", havingValue = "memory", matchIfMissing = true)
+    public Service service() {
+        return new Service();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "hotel.persistence", havingValue = "jdbc")
+    public JdbcDatabase jdbcDatabase(@Value("${hotel.persistence.url}") String url,
+                                     @Value("${hotel.persistence.batch-size:" + JdbcDatabase.DEFAULT_BATCH_SIZE + "}") int batchSize) {
+        return new JdbcDatabase(url, batchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hotel.persistence", havingValue = "jdbc")
+    public Service jdbcService(JdbcDatabase database) {
+        return new Service(database.rooms(), database.users(), database.bookings(), database.unitOfWork());
+    }
+}
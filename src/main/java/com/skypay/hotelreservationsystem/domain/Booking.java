@@ -42,4 +42,20 @@ public class Booking {
         // Store snapshot of user balance
         this.userBalanceSnapshot = user.getBalance();
     }
+
+    // Restores a booking as it was stored, snapshots included
+    public Booking(int bookingId, int userId, int roomNumber, Date checkIn, Date checkOut,
+                   int totalPrice, Date createdAt, RoomType roomTypeSnapshot,
+                   int roomPriceSnapshot, int userBalanceSnapshot) {
+        this.bookingId = bookingId;
+        this.userId = userId;
+        this.roomNumber = roomNumber;
+        this.checkIn = normalizeDate(checkIn);
+        this.checkOut = normalizeDate(checkOut);
+        this.totalPrice = totalPrice;
+        this.createdAt = createdAt;
+        this.roomTypeSnapshot = roomTypeSnapshot;
+        this.roomPriceSnapshot = roomPriceSnapshot;
+        this.userBalanceSnapshot = userBalanceSnapshot;
+    }
 }
@@ -13,5 +13,9 @@ public class Room {
     private RoomType roomType;
     private int pricePerNight;
     @Setter(lombok.AccessLevel.NONE)
-    private final Date createdAt = new Date();
+    private final Date createdAt;
+
+    public Room(int roomNumber, RoomType roomType, int pricePerNight) {
+        this(roomNumber, roomType, pricePerNight, new Date());
+    }
 }
@@ -0,0 +1,12 @@
+package com.skypay.hotelreservationsystem.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StatementLine {
+    private final Booking booking;
+    // Total spent by the user up to and including this booking, in check-in order
+    private final long runningTotal;
+}
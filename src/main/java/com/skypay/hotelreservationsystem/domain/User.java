@@ -14,5 +14,9 @@ public class User {
     private final int userId;
     private int balance;
     @Setter(lombok.AccessLevel.NONE)
-    private final Date createdAt = new Date();
+    private final Date createdAt;
+
+    public User(int userId, int balance) {
+        this(userId, balance, new Date());
+    }
 }
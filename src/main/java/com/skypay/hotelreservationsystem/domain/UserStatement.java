@@ -0,0 +1,28 @@
+package com.skypay.hotelreservationsystem.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserStatement {
+    private final int userId;
+    private final int currentBalance;
+    private final int totalBookings;
+    private final long totalSpent;
+    // Position of the first line within the user's bookings
+    private final int offset;
+    private final List<StatementLine> lines;
+    private final boolean hasMore;
+
+    public UserStatement(int userId, int currentBalance, int totalBookings, long totalSpent,
+                         int offset, List<StatementLine> lines) {
+        this.userId = userId;
+        this.currentBalance = currentBalance;
+        this.totalBookings = totalBookings;
+        this.totalSpent = totalSpent;
+        this.offset = offset;
+        this.lines = List.copyOf(lines);
+        this.hasMore = offset + lines.size() < totalBookings;
+    }
+}
@@ -0,0 +1,40 @@
+package com.skypay.hotelreservationsystem.domain;
+
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+import static com.skypay.hotelreservationsystem.util.Utils.normalizeDate;
+
+@Getter
+public class WaitlistEntry {
+    private final int waitlistId;
+    private final int userId;
+    // Either a specific room is requested, or any room of the given type
+    private final Integer roomNumber;
+    private final RoomType roomType;
+    private final Date checkIn;
+    private final Date checkOut;
+    private final Date createdAt;
+
+    // Set once a booking has been made for this entry
+    @Setter
+    private Integer fulfilledBookingId;
+
+    public WaitlistEntry(int waitlistId, int userId, Integer roomNumber, RoomType roomType,
+                         Date checkIn, Date checkOut) {
+        this.waitlistId = waitlistId;
+        this.userId = userId;
+        this.roomNumber = roomNumber;
+        this.roomType = roomType;
+        this.checkIn = normalizeDate(checkIn);
+        this.checkOut = normalizeDate(checkOut);
+        this.createdAt = new Date();
+    }
+
+    public boolean isFulfilled() {
+        return fulfilledBookingId != null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.skypay.hotelreservationsystem.launcher;
+
+import com.skypay.hotelreservationsystem.bulk.BulkFormat;
+import com.skypay.hotelreservationsystem.bulk.BulkLoadResult;
+import com.skypay.hotelreservationsystem.repository.jdbc.JdbcDatabase;
+import com.skypay.hotelreservationsystem.service.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Lightweight entry point that boots Service directly, without the Spring context.
+ * Meant for the demo and short-lived batch jobs, and as main class for AppCDS and native images.
+ * <pre>
+ * demo                                   runs the reference scenario (default)
+ * import &lt;file.csv&gt; [--jdbc &lt;url&gt;]      bulk loads a CSV file and reports the time to the first booking
+ * load &lt;file&gt; [--jdbc &lt;url&gt;]          bulk loads a CSV or NDJSON file and reports the throughput
+ * export &lt;file&gt; --jdbc &lt;url&gt;          bulk exports a database to CSV or NDJSON
+ * </pre>
+ * import and load both read the BulkLoader formats.
+ */
+public class Launcher {
+    static final String DEMO = "demo";
+    static final String IMPORT = "import";
+    static final String LOAD = "load";
+    static final String EXPORT = "export";
+    private static final Set<String> COMMANDS = Set.of(DEMO, IMPORT, LOAD, EXPORT);
+
+    public static void main(String[] args) {
+        System.exit(run(args.length == 0 ? new String[]{DEMO} : args));
+    }
+
+    public static boolean isCommand(String[] args) {
+        return args.length > 0 && COMMANDS.contains(args[0]);
+    }
+
+    public static int run(String[] args) {
+        if (args.length == 1 && DEMO.equals(args[0])) {
+            DemoScenario.run();
+            return 0;
+        }
+
+        boolean withJdbc = args.length == 4 && "--jdbc".equals(args[2]);
+        if (!withJdbc && (args.length != 2 || EXPORT.equals(args[0]))) {
+            return usage();
+        }
+        Path file = Path.of(args[1]);
+        String jdbcUrl = withJdbc ? args[3] : null;
+
+        return switch (args[0]) {
+            case IMPORT -> withService(jdbcUrl, service -> runImport(service, file));
+            case LOAD -> withService(jdbcUrl, service -> runLoad(service, file));
+            case EXPORT -> withService(jdbcUrl, service -> runExport(service, file));
+            default -> usage();
+        };
+    }
+
+    private static int usage() {
+        System.err.println("Usage: demo | import <file.csv> [--jdbc <url>] | load <file> [--jdbc <url>] | export <file> --jdbc <url>");
+        return 2;
+    }
+
+    private interface Command {
+        int run(Service service) throws IOException;
+    }
+
+    private static int withService(String jdbcUrl, Command command) {
+        JdbcDatabase database = jdbcUrl == null ? null : new JdbcDatabase(jdbcUrl);
+        try {
+            Service service = database == null
+                    ? new Service()
+                    : new Service(database.rooms(), database.users(), database.bookings(), database.unitOfWork());
+            return command.run(service);
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            return 2;
+        } finally {
+            if (database != null) {
+                database.close();
+            }
+        }
+    }
+
+    private static int runImport(Service service, Path csv) throws IOException {
+        BulkLoadResult result = service.bulkLoad(csv, BulkFormat.CSV);
+
+        result.getErrors().forEach(System.err::println);
+        System.out.printf("Imported %d rooms, %d users, %d bookings (%d rejected)%n",
+                result.getRooms(), result.getUsers(), result.getBookings(), result.getRejected());
+        if (result.getFirstBookingAt() != null) {
+            System.out.printf("First booking after %d ms since JVM start%n",
+                    Duration.between(jvmStart(), result.getFirstBookingAt()).toMillis());
+        }
+        return result.getRejected() == 0 ? 0 : 1;
+    }
+
+    private static int runLoad(Service service, Path file) throws IOException {
+        long start = System.nanoTime();
+        BulkLoadResult result = service.bulkLoad(file);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        result.getErrors().forEach(System.err::println);
+        System.out.printf("Loaded %d rooms, %d users, %d bookings (%d rejected) in %.2fs -> %.0f rows/min%n",
+                result.getRooms(), result.getUsers(), result.getBookings(), result.getRejected(),
+                seconds, (result.getLoaded() + result.getRejected()) / seconds * 60);
+        return result.getRejected() == 0 ? 0 : 1;
+    }
+
+    private static int runExport(Service service, Path file) throws IOException {
+        service.bulkExport(file);
+        System.out.println("Exported to " + file);
+        return 0;
+    }
+
+    private static Instant jvmStart() {
+        return ProcessHandle.current().info().startInstant().orElse(Instant.now());
+    }
+}
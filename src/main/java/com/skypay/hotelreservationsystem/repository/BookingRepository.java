@@ -0,0 +1,37 @@
+package com.skypay.hotelreservationsystem.repository;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface BookingRepository {
+
+    Booking findById(int bookingId);
+
+    boolean existsById(int bookingId);
+
+    // In creation order
+    List<Booking> findAll();
+
+    // Same order as findAll, without materializing the whole list
+    void forEach(Consumer<? super Booking> action);
+
+    // Bookings are immutable, so save only ever inserts
+    void save(Booking booking);
+
+    // Stores all bookings or none of them
+    void saveAll(Collection<Booking> bookings);
+
+    void delete(Booking booking);
+
+    int count();
+
+    // Highest booking ID stored, 0 when empty
+    int findMaxId();
+
+    // True if a booking of the room overlaps [checkIn, checkOut)
+    boolean existsOverlap(int roomNumber, Date checkIn, Date checkOut);
+}
@@ -0,0 +1,25 @@
+package com.skypay.hotelreservationsystem.repository;
+
+import com.skypay.hotelreservationsystem.domain.Room;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface RoomRepository {
+
+    Room findById(int roomNumber);
+
+    // In creation order
+    List<Room> findAll();
+
+    // Same order as findAll, without materializing the whole list
+    void forEach(Consumer<? super Room> action);
+
+    // Inserts the room, or updates it if the room number already exists
+    void save(Room room);
+
+    void saveAll(Collection<Room> rooms);
+
+    int count();
+}
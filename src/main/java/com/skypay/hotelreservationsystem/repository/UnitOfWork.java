@@ -0,0 +1,14 @@
+package com.skypay.hotelreservationsystem.repository;
+
+/**
+ * Groups writes across repositories so that they are stored together or not at all,
+ * e.g. a booking and the matching balance update.
+ */
+@FunctionalInterface
+public interface UnitOfWork {
+
+    // In-memory repositories have nothing to commit, the writes simply run
+    UnitOfWork NONE = Runnable::run;
+
+    void run(Runnable work);
+}
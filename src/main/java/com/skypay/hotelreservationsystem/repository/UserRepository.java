@@ -0,0 +1,25 @@
+package com.skypay.hotelreservationsystem.repository;
+
+import com.skypay.hotelreservationsystem.domain.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface UserRepository {
+
+    User findById(int userId);
+
+    // In creation order
+    List<User> findAll();
+
+    // Same order as findAll, without materializing the whole list
+    void forEach(Consumer<? super User> action);
+
+    // Inserts the user, or updates it if the user ID already exists
+    void save(User user);
+
+    void saveAll(Collection<User> users);
+
+    int count();
+}
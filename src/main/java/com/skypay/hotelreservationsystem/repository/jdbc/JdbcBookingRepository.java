@@ -0,0 +1,209 @@
+package com.skypay.hotelreservationsystem.repository.jdbc;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.repository.BookingRepository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Single bookings are inserted right away so that they can share a transaction with the balance
+ * update; saveAll inserts in JDBC batches of batchSize rows within one transaction.
+ */
+class JdbcBookingRepository implements BookingRepository {
+    private static final String COLUMNS = "booking_id, user_id, room_number, check_in, check_out, total_price, "
+            + "created_at, room_type_snapshot, room_price_snapshot, user_balance_snapshot";
+
+    private final Connection connection;
+    private final int batchSize;
+
+    // Prepared once and reused for every call
+    private final PreparedStatement insert;
+    private final PreparedStatement findById;
+    private final PreparedStatement exists;
+    private final PreparedStatement findAll;
+    private final PreparedStatement delete;
+    private final PreparedStatement count;
+    private final PreparedStatement maxId;
+    private final PreparedStatement overlap;
+
+    JdbcBookingRepository(Connection connection, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.insert = connection.prepareStatement(
+                "INSERT INTO bookings (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        this.findById = connection.prepareStatement(
+                "SELECT " + COLUMNS + " FROM bookings WHERE booking_id = ?");
+        this.exists = connection.prepareStatement("SELECT 1 FROM bookings WHERE booking_id = ?");
+        this.findAll = connection.prepareStatement(
+                "SELECT " + COLUMNS + " FROM bookings ORDER BY booking_id");
+        this.delete = connection.prepareStatement("DELETE FROM bookings WHERE booking_id = ?");
+        this.count = connection.prepareStatement("SELECT COUNT(*) FROM bookings");
+        this.maxId = connection.prepareStatement("SELECT COALESCE(MAX(booking_id), 0) FROM bookings");
+        // Stays of one room never overlap, so only the latest one starting before check-out can.
+        // Ordering on the whole index prefix lets H2 walk the index backwards and stop at that row
+        this.overlap = connection.prepareStatement(
+                "SELECT check_out FROM bookings WHERE room_number = ? AND check_in < ? "
+                        + "ORDER BY room_number DESC, check_in DESC LIMIT 1");
+    }
+
+    @Override
+    public Booking findById(int bookingId) {
+        try {
+            findById.setInt(1, bookingId);
+            try (ResultSet rs = findById.executeQuery()) {
+                return rs.next() ? map(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load booking " + bookingId, e);
+        }
+    }
+
+    // Primary key lookup only, no row is mapped
+    @Override
+    public boolean existsById(int bookingId) {
+        try {
+            exists.setInt(1, bookingId);
+            try (ResultSet rs = exists.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot check booking " + bookingId, e);
+        }
+    }
+
+    @Override
+    public List<Booking> findAll() {
+        List<Booking> bookings = new ArrayList<>();
+        forEach(bookings::add);
+        return bookings;
+    }
+
+    @Override
+    public void forEach(Consumer<? super Booking> action) {
+        try (ResultSet rs = findAll.executeQuery()) {
+            while (rs.next()) {
+                action.accept(map(rs));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load bookings", e);
+        }
+    }
+
+    @Override
+    public void save(Booking booking) {
+        try {
+            bind(booking);
+            insert.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save booking " + booking.getBookingId(), e);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Booking> bookings) {
+        try {
+            JdbcSupport.inTransaction(connection, () -> {
+                // Nothing left over from a batch that failed earlier
+                insert.clearBatch();
+                int batched = 0;
+                for (Booking booking : bookings) {
+                    bind(booking);
+                    insert.addBatch();
+                    if (++batched % batchSize == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save bookings", e);
+        }
+    }
+
+    @Override
+    public void delete(Booking booking) {
+        try {
+            delete.setInt(1, booking.getBookingId());
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot delete booking " + booking.getBookingId(), e);
+        }
+    }
+
+    @Override
+    public int count() {
+        return JdbcSupport.count(count, "bookings");
+    }
+
+    @Override
+    public int findMaxId() {
+        try (ResultSet rs = maxId.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load highest booking ID", e);
+        }
+    }
+
+    @Override
+    public boolean existsOverlap(int roomNumber, Date checkIn, Date checkOut) {
+        try {
+            overlap.setInt(1, roomNumber);
+            overlap.setTimestamp(2, new Timestamp(checkOut.getTime()));
+            try (ResultSet rs = overlap.executeQuery()) {
+                return rs.next() && rs.getTimestamp(1).getTime() > checkIn.getTime();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot check availability of room " + roomNumber, e);
+        }
+    }
+
+    void close() throws SQLException {
+        insert.close();
+        findById.close();
+        exists.close();
+        findAll.close();
+        delete.close();
+        count.close();
+        maxId.close();
+        overlap.close();
+    }
+
+    private void bind(Booking booking) throws SQLException {
+        insert.setInt(1, booking.getBookingId());
+        insert.setInt(2, booking.getUserId());
+        insert.setInt(3, booking.getRoomNumber());
+        insert.setTimestamp(4, new Timestamp(booking.getCheckIn().getTime()));
+        insert.setTimestamp(5, new Timestamp(booking.getCheckOut().getTime()));
+        insert.setInt(6, booking.getTotalPrice());
+        insert.setTimestamp(7, new Timestamp(booking.getCreatedAt().getTime()));
+        insert.setString(8, booking.getRoomTypeSnapshot().name());
+        insert.setInt(9, booking.getRoomPriceSnapshot());
+        insert.setInt(10, booking.getUserBalanceSnapshot());
+    }
+
+    private static Booking map(ResultSet rs) throws SQLException {
+        return new Booking(
+                rs.getInt("booking_id"),
+                rs.getInt("user_id"),
+                rs.getInt("room_number"),
+                new Date(rs.getTimestamp("check_in").getTime()),
+                new Date(rs.getTimestamp("check_out").getTime()),
+                rs.getInt("total_price"),
+                new Date(rs.getTimestamp("created_at").getTime()),
+                RoomType.valueOf(rs.getString("room_type_snapshot")),
+                rs.getInt("room_price_snapshot"),
+                rs.getInt("user_balance_snapshot")
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.skypay.hotelreservationsystem.repository.jdbc;
+
+import com.skypay.hotelreservationsystem.repository.BookingRepository;
+import com.skypay.hotelreservationsystem.repository.RoomRepository;
+import com.skypay.hotelreservationsystem.repository.UnitOfWork;
+import com.skypay.hotelreservationsystem.repository.UserRepository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Embedded database backend (H2). Owns a single connection shared by the three repositories,
+ * which is enough since Service serializes access. Writes run in auto-commit mode unless they
+ * are grouped by {@link #unitOfWork()}.
+ */
+public class JdbcDatabase implements AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Connection connection;
+    private final JdbcRoomRepository rooms;
+    private final JdbcUserRepository users;
+    private final JdbcBookingRepository bookings;
+
+    public JdbcDatabase(String url) {
+        this(url, DEFAULT_BATCH_SIZE);
+    }
+
+    public JdbcDatabase(String url, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        try {
+            this.connection = DriverManager.getConnection(url);
+            createSchema();
+            this.rooms = new JdbcRoomRepository(connection);
+            this.users = new JdbcUserRepository(connection);
+            this.bookings = new JdbcBookingRepository(connection, batchSize);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot open database " + url, e);
+        }
+    }
+
+    public RoomRepository rooms() {
+        return rooms;
+    }
+
+    public UserRepository users() {
+        return users;
+    }
+
+    public BookingRepository bookings() {
+        return bookings;
+    }
+
+    // Commits the grouped writes together, or rolls all of them back if one fails
+    public UnitOfWork unitOfWork() {
+        return work -> {
+            try {
+                JdbcSupport.inTransaction(connection, work::run);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Cannot commit transaction", e);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        try {
+            rooms.close();
+            users.close();
+            bookings.close();
+            connection.close();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot close database", e);
+        }
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS rooms ("
+                    + "room_number INT PRIMARY KEY, "
+                    + "room_type VARCHAR(16) NOT NULL, "
+                    + "price_per_night INT NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS users ("
+                    + "user_id INT PRIMARY KEY, "
+                    + "balance INT NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS bookings ("
+                    + "booking_id INT PRIMARY KEY, "
+                    + "user_id INT NOT NULL, "
+                    + "room_number INT NOT NULL, "
+                    + "check_in TIMESTAMP NOT NULL, "
+                    + "check_out TIMESTAMP NOT NULL, "
+                    + "total_price INT NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, "
+                    + "room_type_snapshot VARCHAR(16) NOT NULL, "
+                    + "room_price_snapshot INT NOT NULL, "
+                    + "user_balance_snapshot INT NOT NULL)");
+            // Serves the per-room overlap check: seek on room, then backwards from the check-out date
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bookings_room_check_in "
+                    + "ON bookings (room_number, check_in, check_out)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bookings_user "
+                    + "ON bookings (user_id)");
+        }
+    }
+}
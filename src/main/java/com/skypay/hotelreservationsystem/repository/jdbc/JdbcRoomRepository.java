@@ -0,0 +1,123 @@
+package com.skypay.hotelreservationsystem.repository.jdbc;
+
+import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.repository.RoomRepository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+class JdbcRoomRepository implements RoomRepository {
+    private final Connection connection;
+    // Prepared once and reused for every call
+    private final PreparedStatement findById;
+    private final PreparedStatement findAll;
+    private final PreparedStatement merge;
+    private final PreparedStatement count;
+
+    JdbcRoomRepository(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.findById = connection.prepareStatement(
+                "SELECT room_number, room_type, price_per_night, created_at FROM rooms WHERE room_number = ?");
+        this.findAll = connection.prepareStatement(
+                "SELECT room_number, room_type, price_per_night, created_at FROM rooms "
+                        + "ORDER BY created_at, room_number");
+        this.merge = connection.prepareStatement(
+                "MERGE INTO rooms (room_number, room_type, price_per_night, created_at) "
+                        + "KEY (room_number) VALUES (?, ?, ?, ?)");
+        this.count = connection.prepareStatement("SELECT COUNT(*) FROM rooms");
+    }
+
+    @Override
+    public Room findById(int roomNumber) {
+        try {
+            findById.setInt(1, roomNumber);
+            try (ResultSet rs = findById.executeQuery()) {
+                return rs.next() ? map(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load room " + roomNumber, e);
+        }
+    }
+
+    @Override
+    public List<Room> findAll() {
+        List<Room> rooms = new ArrayList<>();
+        forEach(rooms::add);
+        return rooms;
+    }
+
+    @Override
+    public void forEach(Consumer<? super Room> action) {
+        try (ResultSet rs = findAll.executeQuery()) {
+            while (rs.next()) {
+                action.accept(map(rs));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load rooms", e);
+        }
+    }
+
+    @Override
+    public void save(Room room) {
+        try {
+            bind(room);
+            merge.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save room " + room.getRoomNumber(), e);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Room> rooms) {
+        try {
+            JdbcSupport.inTransaction(connection, () -> {
+                // Nothing left over from a batch that failed earlier
+                merge.clearBatch();
+                for (Room room : rooms) {
+                    bind(room);
+                    merge.addBatch();
+                }
+                merge.executeBatch();
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save rooms", e);
+        }
+    }
+
+    @Override
+    public int count() {
+        return JdbcSupport.count(count, "rooms");
+    }
+
+    void close() throws SQLException {
+        findById.close();
+        findAll.close();
+        merge.close();
+        count.close();
+    }
+
+    private void bind(Room room) throws SQLException {
+        merge.setInt(1, room.getRoomNumber());
+        merge.setString(2, room.getRoomType().name());
+        merge.setInt(3, room.getPricePerNight());
+        merge.setTimestamp(4, new Timestamp(room.getCreatedAt().getTime()));
+    }
+
+    private static Room map(ResultSet rs) throws SQLException {
+        return new Room(
+                rs.getInt("room_number"),
+                RoomType.valueOf(rs.getString("room_type")),
+                rs.getInt("price_per_night"),
+                new Date(rs.getTimestamp("created_at").getTime())
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.skypay.hotelreservationsystem.repository.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+final class JdbcSupport {
+
+    private JdbcSupport() {
+    }
+
+    static int count(PreparedStatement count, String table) {
+        try (ResultSet rs = count.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot count " + table, e);
+        }
+    }
+
+    interface SqlWork {
+        void run() throws SQLException;
+    }
+
+    // Runs the work in its own transaction, or as part of the one already open on the connection
+    static void inTransaction(Connection connection, SqlWork work) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            work.run();
+            return;
+        }
+        connection.setAutoCommit(false);
+        try {
+            work.run();
+            connection.commit();
+        } finally {
+            restoreAutoCommit(connection);
+        }
+    }
+
+    // Drops whatever a failed transaction left uncommitted
+    static void restoreAutoCommit(Connection connection) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot restore auto-commit", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.skypay.hotelreservationsystem.repository.jdbc;
+
+import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.repository.UserRepository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+class JdbcUserRepository implements UserRepository {
+    private final Connection connection;
+    // Prepared once and reused for every call
+    private final PreparedStatement findById;
+    private final PreparedStatement findAll;
+    private final PreparedStatement merge;
+    private final PreparedStatement count;
+
+    JdbcUserRepository(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.findById = connection.prepareStatement(
+                "SELECT user_id, balance, created_at FROM users WHERE user_id = ?");
+        this.findAll = connection.prepareStatement(
+                "SELECT user_id, balance, created_at FROM users ORDER BY created_at, user_id");
+        this.merge = connection.prepareStatement(
+                "MERGE INTO users (user_id, balance, created_at) KEY (user_id) VALUES (?, ?, ?)");
+        this.count = connection.prepareStatement("SELECT COUNT(*) FROM users");
+    }
+
+    @Override
+    public User findById(int userId) {
+        try {
+            findById.setInt(1, userId);
+            try (ResultSet rs = findById.executeQuery()) {
+                return rs.next() ? map(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load user " + userId, e);
+        }
+    }
+
+    @Override
+    public List<User> findAll() {
+        List<User> users = new ArrayList<>();
+        forEach(users::add);
+        return users;
+    }
+
+    @Override
+    public void forEach(Consumer<? super User> action) {
+        try (ResultSet rs = findAll.executeQuery()) {
+            while (rs.next()) {
+                action.accept(map(rs));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load users", e);
+        }
+    }
+
+    @Override
+    public void save(User user) {
+        try {
+            bind(user);
+            merge.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save user " + user.getUserId(), e);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        try {
+            JdbcSupport.inTransaction(connection, () -> {
+                // Nothing left over from a batch that failed earlier
+                merge.clearBatch();
+                for (User user : users) {
+                    bind(user);
+                    merge.addBatch();
+                }
+                merge.executeBatch();
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save users", e);
+        }
+    }
+
+    @Override
+    public int count() {
+        return JdbcSupport.count(count, "users");
+    }
+
+    void close() throws SQLException {
+        findById.close();
+        findAll.close();
+        merge.close();
+        count.close();
+    }
+
+    private void bind(User user) throws SQLException {
+        merge.setInt(1, user.getUserId());
+        merge.setInt(2, user.getBalance());
+        merge.setTimestamp(3, new Timestamp(user.getCreatedAt().getTime()));
+    }
+
+    private static User map(ResultSet rs) throws SQLException {
+        return new User(
+                rs.getInt("user_id"),
+                rs.getInt("balance"),
+                new Date(rs.getTimestamp("created_at").getTime())
+        );
+    }
+}
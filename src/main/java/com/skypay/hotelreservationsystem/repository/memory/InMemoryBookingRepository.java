@@ -0,0 +1,86 @@
+package com.skypay.hotelreservationsystem.repository.memory;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+import com.skypay.hotelreservationsystem.repository.BookingRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.TreeMap;
+
+public class InMemoryBookingRepository implements BookingRepository {
+    private final Map<Integer, Booking> bookings = new LinkedHashMap<>();
+    // Per room, bookings ordered by check-in; periods of one room never overlap
+    private final Map<Integer, TreeMap<Long, Booking>> byRoom = new HashMap<>();
+    private int maxId;
+
+    @Override
+    public Booking findById(int bookingId) {
+        return bookings.get(bookingId);
+    }
+
+    @Override
+    public boolean existsById(int bookingId) {
+        return bookings.containsKey(bookingId);
+    }
+
+    @Override
+    public List<Booking> findAll() {
+        return new ArrayList<>(bookings.values());
+    }
+
+    @Override
+    public void forEach(Consumer<? super Booking> action) {
+        bookings.values().forEach(action);
+    }
+
+    @Override
+    public void save(Booking booking) {
+        bookings.put(booking.getBookingId(), booking);
+        byRoom.computeIfAbsent(booking.getRoomNumber(), k -> new TreeMap<>())
+                .put(booking.getCheckIn().getTime(), booking);
+        maxId = Math.max(maxId, booking.getBookingId());
+    }
+
+    @Override
+    public void saveAll(Collection<Booking> bookings) {
+        bookings.forEach(this::save);
+    }
+
+    @Override
+    public void delete(Booking booking) {
+        if (bookings.remove(booking.getBookingId()) != null) {
+            TreeMap<Long, Booking> roomBookings = byRoom.get(booking.getRoomNumber());
+            roomBookings.remove(booking.getCheckIn().getTime());
+            if (roomBookings.isEmpty()) {
+                byRoom.remove(booking.getRoomNumber());
+            }
+        }
+    }
+
+    @Override
+    public int count() {
+        return bookings.size();
+    }
+
+    @Override
+    public int findMaxId() {
+        return maxId;
+    }
+
+    @Override
+    public boolean existsOverlap(int roomNumber, Date checkIn, Date checkOut) {
+        TreeMap<Long, Booking> roomBookings = byRoom.get(roomNumber);
+        if (roomBookings == null) {
+            return false;
+        }
+        // Only the latest booking starting before checkOut can overlap
+        Map.Entry<Long, Booking> candidate = roomBookings.lowerEntry(checkOut.getTime());
+        return candidate != null && candidate.getValue().getCheckOut().getTime() > checkIn.getTime();
+    }
+}
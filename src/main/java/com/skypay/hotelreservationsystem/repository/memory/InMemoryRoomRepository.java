@@ -0,0 +1,46 @@
+package com.skypay.hotelreservationsystem.repository.memory;
+
+import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.repository.RoomRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class InMemoryRoomRepository implements RoomRepository {
+    // Keyed by room number, iteration follows insertion order
+    private final Map<Integer, Room> rooms = new LinkedHashMap<>();
+
+    @Override
+    public Room findById(int roomNumber) {
+        return rooms.get(roomNumber);
+    }
+
+    @Override
+    public List<Room> findAll() {
+        return new ArrayList<>(rooms.values());
+    }
+
+    @Override
+    public void forEach(Consumer<? super Room> action) {
+        rooms.values().forEach(action);
+    }
+
+    @Override
+    public void save(Room room) {
+        rooms.put(room.getRoomNumber(), room);
+    }
+
+    @Override
+    public void saveAll(Collection<Room> rooms) {
+        rooms.forEach(this::save);
+    }
+
+    @Override
+    public int count() {
+        return rooms.size();
+    }
+}
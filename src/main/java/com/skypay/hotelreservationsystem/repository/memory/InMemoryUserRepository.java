@@ -0,0 +1,46 @@
+package com.skypay.hotelreservationsystem.repository.memory;
+
+import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class InMemoryUserRepository implements UserRepository {
+    // Keyed by user ID, iteration follows insertion order
+    private final Map<Integer, User> users = new LinkedHashMap<>();
+
+    @Override
+    public User findById(int userId) {
+        return users.get(userId);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return new ArrayList<>(users.values());
+    }
+
+    @Override
+    public void forEach(Consumer<? super User> action) {
+        users.values().forEach(action);
+    }
+
+    @Override
+    public void save(User user) {
+        users.put(user.getUserId(), user);
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        users.forEach(this::save);
+    }
+
+    @Override
+    public int count() {
+        return users.size();
+    }
+}
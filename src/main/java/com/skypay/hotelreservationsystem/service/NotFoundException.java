@@ -0,0 +1,12 @@
+package com.skypay.hotelreservationsystem.service;
+
+/**
+ * Thrown when a room, user, booking or waitlist entry looked up by its ID does not exist.
+ * Still an IllegalArgumentException, so callers that only tell valid from invalid are unaffected.
+ */
+public class NotFoundException extends IllegalArgumentException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,25 +1,78 @@
 package com.skypay.hotelreservationsystem.service;
 
+import com.skypay.hotelreservationsystem.bulk.BulkExporter;
+import com.skypay.hotelreservationsystem.bulk.BulkFormat;
+import com.skypay.hotelreservationsystem.bulk.BulkLoadResult;
+import com.skypay.hotelreservationsystem.bulk.BulkLoader;
 import com.skypay.hotelreservationsystem.domain.Booking;
 import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.domain.StatementLine;
 import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.domain.UserStatement;
+import com.skypay.hotelreservationsystem.domain.WaitlistEntry;
 import com.skypay.hotelreservationsystem.domain.enums.RoomType;
-import lombok.NoArgsConstructor;
+import com.skypay.hotelreservationsystem.repository.BookingRepository;
+import com.skypay.hotelreservationsystem.repository.RoomRepository;
+import com.skypay.hotelreservationsystem.repository.UserRepository;
+import com.skypay.hotelreservationsystem.repository.UnitOfWork;
+import com.skypay.hotelreservationsystem.repository.memory.InMemoryBookingRepository;
+import com.skypay.hotelreservationsystem.repository.memory.InMemoryRoomRepository;
+import com.skypay.hotelreservationsystem.repository.memory.InMemoryUserRepository;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 import static com.skypay.hotelreservationsystem.util.Utils.normalizeDate;
 
-@NoArgsConstructor
 public class Service {
-    ArrayList<Room> rooms = new ArrayList<>();
-    ArrayList<User> users = new ArrayList<>();
-    ArrayList<Booking> bookings = new ArrayList<>();
-    private int bookingIdCounter = 1;
+    // Bookings read per merge into the index at startup, so the table is never held in memory at once
+    private static final int INDEX_CHUNK_SIZE = 4096;
 
-    public void setRoom(int roomNumber, RoomType roomType, int roomPricePerNight) {
+    private final RoomRepository rooms;
+    private final UserRepository users;
+    private final BookingRepository bookings;
+    private final UnitOfWork unitOfWork;
+    // Waiting entries keyed by waitlist ID, in request order
+    LinkedHashMap<Integer, WaitlistEntry> waitlist = new LinkedHashMap<>();
+    private final WaitlistIndex waitlistIndex = new WaitlistIndex();
+    private final UserBookingIndex userBookingIndex = new UserBookingIndex();
+    private int bookingIdCounter;
+    private int waitlistIdCounter = 1;
+
+    public Service() {
+        this(new InMemoryRoomRepository(), new InMemoryUserRepository(), new InMemoryBookingRepository(),
+                UnitOfWork.NONE);
+    }
+
+    public Service(RoomRepository rooms, UserRepository users, BookingRepository bookings, UnitOfWork unitOfWork) {
+        this.rooms = rooms;
+        this.users = users;
+        this.bookings = bookings;
+        this.unitOfWork = unitOfWork;
+        // Continue numbering after whatever the backend already holds
+        this.bookingIdCounter = bookings.findMaxId() + 1;
+        indexStoredBookings();
+    }
+
+    private void indexStoredBookings() {
+        List<Booking> chunk = new ArrayList<>(INDEX_CHUNK_SIZE);
+        bookings.forEach(booking -> {
+            chunk.add(booking);
+            if (chunk.size() == INDEX_CHUNK_SIZE) {
+                userBookingIndex.addAll(chunk);
+                chunk.clear();
+            }
+        });
+        userBookingIndex.addAll(chunk);
+    }
+
+    // Returns a copy of the stored room, taken under the same lock as the update
+    public synchronized Room setRoom(int roomNumber, RoomType roomType, int roomPricePerNight) {
         if (roomNumber <= 0) {
             throw new IllegalArgumentException("Room number must be positive");
         }
@@ -36,13 +89,18 @@ public class Service {
             // Update existing room - this does NOT affect previous bookings
             existingRoom.setRoomType(roomType);
             existingRoom.setPricePerNight(roomPricePerNight);
-        } else {
-            // Create new room
-            rooms.add(new Room(roomNumber, roomType, roomPricePerNight));
+            rooms.save(existingRoom);
+            return snapshot(existingRoom);
         }
+
+        // Create new room
+        Room room = new Room(roomNumber, roomType, roomPricePerNight);
+        rooms.save(room);
+        return snapshot(room);
     }
 
-    public void setUser(int userId, int balance) {
+    // Returns a copy of the stored user, taken under the same lock as the update
+    public synchronized User setUser(int userId, int balance) {
         if (userId <= 0) {
             throw new IllegalArgumentException("User ID must be positive");
         }
@@ -54,12 +112,166 @@ public class Service {
 
         if (existingUser != null) {
             existingUser.setBalance(balance);
-        } else {
-            users.add(new User(userId, balance));
+            users.save(existingUser);
+            return snapshot(existingUser);
+        }
+
+        User user = new User(userId, balance);
+        users.save(user);
+        return snapshot(user);
+    }
+
+    public synchronized Booking bookRoom(int userId, int roomNumber, Date checkIn, Date checkOut) {
+        return createBooking(userId, roomNumber, checkIn, checkOut);
+    }
+
+    public synchronized void cancelBooking(int bookingId) {
+        Booking booking = findBooking(bookingId);
+        if (booking == null) {
+            throw new NotFoundException("Booking with ID " + bookingId + " not found");
+        }
+
+        // Deletion and refund are stored together
+        User user = findUser(booking.getUserId());
+        unitOfWork.run(() -> {
+            bookings.delete(booking);
+            if (user != null) {
+                user.setBalance(user.getBalance() + booking.getTotalPrice());
+                users.save(user);
+            }
+        });
+        userBookingIndex.remove(booking);
+
+        // The freed nights may satisfy someone on the waitlist
+        Room room = findRoom(booking.getRoomNumber());
+        if (room != null) {
+            fulfilWaitlist(room, booking.getCheckIn(), booking.getCheckOut());
+        }
+    }
+
+    public synchronized WaitlistEntry joinWaitlist(int userId, int roomNumber, Date checkIn, Date checkOut) {
+        Room room = findRoom(roomNumber);
+        if (room == null) {
+            throw new IllegalArgumentException("Room with number " + roomNumber + " not found");
+        }
+        return addToWaitlist(userId, roomNumber, room.getRoomType(), checkIn, checkOut);
+    }
+
+    public synchronized WaitlistEntry joinWaitlist(int userId, RoomType roomType, Date checkIn, Date checkOut) {
+        if (roomType == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        return addToWaitlist(userId, null, roomType, checkIn, checkOut);
+    }
+
+    public synchronized void leaveWaitlist(int waitlistId) {
+        WaitlistEntry entry = waitlist.remove(waitlistId);
+        if (entry == null) {
+            throw new NotFoundException("Waitlist entry with ID " + waitlistId + " not found");
+        }
+
+        waitlistIndex.remove(entry);
+    }
+
+    // Rooms and users are mutable, callers get copies they can read outside the lock
+    public synchronized List<Room> getRooms() {
+        return rooms.findAll().stream().map(Service::snapshot).toList();
+    }
+
+    public synchronized List<User> getUsers() {
+        return users.findAll().stream().map(Service::snapshot).toList();
+    }
+
+    public synchronized List<Booking> getBookings() {
+        return bookings.findAll();
+    }
+
+    // Format is taken from the file extension, see BulkFormat.forPath
+    public BulkLoadResult bulkLoad(Path path) throws IOException {
+        return bulkLoad(path, BulkFormat.forPath(path));
+    }
+
+    public synchronized BulkLoadResult bulkLoad(Path path, BulkFormat format) throws IOException {
+        // Each saved batch is indexed right away, in one sorted merge per user
+        BulkLoadResult result = new BulkLoader(rooms, users, bookings).load(path, format, userBookingIndex::addAll);
+        // Loaded bookings keep their IDs, new ones are numbered after them
+        bookingIdCounter = Math.max(bookingIdCounter, bookings.findMaxId() + 1);
+        return result;
+    }
+
+    public void bulkExport(Path path) throws IOException {
+        bulkExport(path, BulkFormat.forPath(path));
+    }
+
+    public synchronized void bulkExport(Path path, BulkFormat format) throws IOException {
+        new BulkExporter(rooms, users, bookings).export(path, format);
+    }
+
+    public synchronized Room getRoom(int roomNumber) {
+        Room room = findRoom(roomNumber);
+        if (room == null) {
+            throw new NotFoundException("Room with number " + roomNumber + " not found");
+        }
+        return snapshot(room);
+    }
+
+    public synchronized User getUser(int userId) {
+        User user = findUser(userId);
+        if (user == null) {
+            throw new NotFoundException("User with ID " + userId + " not found");
+        }
+        return snapshot(user);
+    }
+
+    public synchronized List<Room> findAvailableRooms(Date checkIn, Date checkOut, RoomType roomType) {
+        Date normalizedCheckIn = normalizeDate(checkIn);
+        Date normalizedCheckOut = normalizeDate(checkOut);
+
+        if (normalizedCheckOut.compareTo(normalizedCheckIn) <= 0) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+
+        // A null room type means any type
+        return rooms.findAll().stream()
+                .filter(r -> roomType == null || r.getRoomType() == roomType)
+                .filter(r -> isRoomAvailable(r.getRoomNumber(), normalizedCheckIn, normalizedCheckOut))
+                .map(Service::snapshot)
+                .toList();
+    }
+
+    public synchronized UserStatement getUserStatement(int userId, int offset, int limit) {
+        User user = findUser(userId);
+        if (user == null) {
+            throw new NotFoundException("User with ID " + userId + " not found");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        // Only the requested page is read, whatever the size of the history
+        int[] bookingIds = userBookingIndex.bookingIds(userId, offset, limit);
+        List<StatementLine> lines = new ArrayList<>(bookingIds.length);
+        for (int i = 0; i < bookingIds.length; i++) {
+            lines.add(new StatementLine(
+                    findBooking(bookingIds[i]),
+                    userBookingIndex.runningTotal(userId, offset + i)
+            ));
         }
+
+        return new UserStatement(
+                userId,
+                user.getBalance(),
+                userBookingIndex.count(userId),
+                userBookingIndex.totalSpent(userId),
+                offset,
+                lines
+        );
     }
 
-    public void bookRoom(int userId, int roomNumber, Date checkIn, Date checkOut) {
+    private Booking createBooking(int userId, int roomNumber, Date checkIn, Date checkOut) {
         // Find user and room
         User user = findUser(userId);
         if (user == null) {
@@ -111,19 +323,92 @@ public class Service {
                 user
         );
 
-        bookings.add(booking);
+        // The booking and the balance update are stored together
+        unitOfWork.run(() -> {
+            bookings.save(booking);
+            user.setBalance(user.getBalance() - totalPrice);
+            users.save(user);
+        });
+        userBookingIndex.add(booking);
 
-        // Update user balance
-        user.setBalance(user.getBalance() - totalPrice);
+        return booking;
     }
 
-    public void printAll() {
+    private WaitlistEntry addToWaitlist(int userId, Integer roomNumber, RoomType roomType,
+                                        Date checkIn, Date checkOut) {
+        if (findUser(userId) == null) {
+            throw new IllegalArgumentException("User with ID " + userId + " not found");
+        }
+
+        Date normalizedCheckIn = normalizeDate(checkIn);
+        Date normalizedCheckOut = normalizeDate(checkOut);
+
+        if (normalizedCheckOut.compareTo(normalizedCheckIn) <= 0) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+
+        WaitlistEntry entry = new WaitlistEntry(
+                waitlistIdCounter++,
+                userId,
+                roomNumber,
+                roomType,
+                normalizedCheckIn,
+                normalizedCheckOut
+        );
+
+        // The period may already be free, in which case there is nothing to wait for
+        if (!tryFulfil(entry)) {
+            waitlist.put(entry.getWaitlistId(), entry);
+            waitlistIndex.add(entry);
+        }
+
+        return entry;
+    }
+
+    private void fulfilWaitlist(Room room, Date freedFrom, Date freedTo) {
+        List<WaitlistEntry> candidates = waitlistIndex.findOverlapping(
+                room.getRoomNumber(), room.getRoomType(), freedFrom, freedTo);
+
+        // Oldest request first; entries that still cannot be booked keep waiting
+        for (WaitlistEntry entry : candidates) {
+            if (tryBook(entry, room)) {
+                waitlist.remove(entry.getWaitlistId());
+                waitlistIndex.remove(entry);
+            }
+        }
+    }
+
+    private boolean tryFulfil(WaitlistEntry entry) {
+        if (entry.getRoomNumber() != null) {
+            return tryBook(entry, findRoom(entry.getRoomNumber()));
+        }
+        return rooms.findAll().stream()
+                .filter(r -> r.getRoomType() == entry.getRoomType())
+                .anyMatch(r -> tryBook(entry, r));
+    }
+
+    private boolean tryBook(WaitlistEntry entry, Room room) {
+        if (!isRoomAvailable(room.getRoomNumber(), entry.getCheckIn(), entry.getCheckOut())) {
+            return false;
+        }
+        try {
+            Booking booking = createBooking(entry.getUserId(), room.getRoomNumber(),
+                    entry.getCheckIn(), entry.getCheckOut());
+            entry.setFulfilledBookingId(booking.getBookingId());
+            return true;
+        } catch (IllegalArgumentException e) {
+            // e.g. insufficient balance, the entry stays on the waitlist
+            return false;
+        }
+    }
+
+    public synchronized void printAll() {
         SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
 
         System.out.println("========== ALL ROOMS (Latest to Oldest) ==========");
 
         // Sort rooms by creation date (latest first)
-        rooms.stream()
+        rooms.findAll().stream()
                 .sorted((r1, r2) -> r2.getCreatedAt().compareTo(r1.getCreatedAt()))
                 .forEach(room -> {
                     System.out.printf("Room %d | Type: %s | Price/Night: %d%n",
@@ -136,7 +421,7 @@ public class Service {
         System.out.println("\n========== ALL BOOKINGS (Latest to Oldest) ==========");
 
         // Sort bookings by creation date (latest first)
-        bookings.stream()
+        bookings.findAll().stream()
                 .sorted((b1, b2) -> b2.getCreatedAt().compareTo(b1.getCreatedAt()))
                 .forEach(booking -> {
                     System.out.printf("%nBooking ID: %d%n", booking.getBookingId());
@@ -155,11 +440,11 @@ public class Service {
                 });
     }
 
-    public void printAllUsers() {
+    public synchronized void printAllUsers() {
         System.out.println("========== ALL USERS (Latest to Oldest) ==========");
 
         // Sort users by creation date (latest first)
-        users.stream()
+        users.findAll().stream()
                 .sorted((u1, u2) -> u2.getCreatedAt().compareTo(u1.getCreatedAt()))
                 .forEach(user -> {
                     System.out.printf("User ID: %d | Balance: %d%n",
@@ -169,30 +454,55 @@ public class Service {
                 });
     }
 
+    public synchronized void printUserStatement(int userId) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        UserStatement statement = getUserStatement(userId, 0, Math.max(1, userBookingIndex.count(userId)));
+
+        System.out.printf("========== STATEMENT FOR USER %d (By Check-in Date) ==========%n", userId);
+
+        statement.getLines().forEach(line -> {
+            Booking booking = line.getBooking();
+            System.out.printf("%s - %s | Booking ID: %d | Room: %d | Total Price: %d | Running Total: %d%n",
+                    dateFormat.format(booking.getCheckIn()),
+                    dateFormat.format(booking.getCheckOut()),
+                    booking.getBookingId(),
+                    booking.getRoomNumber(),
+                    booking.getTotalPrice(),
+                    line.getRunningTotal()
+            );
+        });
+
+        System.out.printf("Bookings: %d | Total Spent: %d | Balance: %d%n",
+                statement.getTotalBookings(),
+                statement.getTotalSpent(),
+                statement.getCurrentBalance()
+        );
+    }
+
     // Helper methods
     private Room findRoom(int roomNumber) {
-        return rooms.stream()
-                .filter(r -> r.getRoomNumber() == roomNumber)
-                .findFirst()
-                .orElse(null);
+        return rooms.findById(roomNumber);
     }
 
     private User findUser(int userId) {
-        return users.stream()
-                .filter(u -> u.getUserId() == userId)
-                .findFirst()
-                .orElse(null);
+        return users.findById(userId);
+    }
+
+    private Booking findBooking(int bookingId) {
+        return bookings.findById(bookingId);
+    }
+
+    private static Room snapshot(Room room) {
+        return new Room(room.getRoomNumber(), room.getRoomType(), room.getPricePerNight(), room.getCreatedAt());
+    }
+
+    private static User snapshot(User user) {
+        return new User(user.getUserId(), user.getBalance(), user.getCreatedAt());
     }
 
     private boolean isRoomAvailable(int roomNumber, Date checkIn, Date checkOut) {
-        return bookings.stream()
-                .filter(b -> b.getRoomNumber() == roomNumber)
-                .allMatch(booking -> {
-                    // Room is available if:
-                    // - New booking ends before existing booking starts, OR
-                    // - New booking starts after existing booking ends
-                    return checkOut.compareTo(booking.getCheckIn()) <= 0 ||
-                            checkIn.compareTo(booking.getCheckOut()) >= 0;
-                });
+        // Room is available if no existing booking of that room overlaps the period:
+        // each one must end before the new one starts, or start after it ends
+        return !bookings.existsOverlap(roomNumber, checkIn, checkOut);
     }
 }
@@ -0,0 +1,191 @@
+package com.skypay.hotelreservationsystem.service;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user booking history: booking ids kept in check-in order in primitive arrays, with running
+ * totals alongside, so any page of a statement is read without touching other bookings.
+ * Adding or removing a booking only shifts that user's own arrays.
+ */
+class UserBookingIndex {
+    private static final Comparator<Booking> CHECK_IN_ORDER = Comparator
+            .comparingLong((Booking b) -> b.getCheckIn().getTime())
+            .thenComparingInt(Booking::getBookingId);
+
+    private final Map<Integer, History> byUser = new HashMap<>();
+
+    void add(Booking booking) {
+        byUser.computeIfAbsent(booking.getUserId(), k -> new History()).add(booking);
+    }
+
+    // Many bookings at once, in any order: grouped by user, each group sorted once and merged
+    // into the user's history in a single pass that also recomputes the running totals
+    void addAll(Collection<Booking> bookings) {
+        Map<Integer, List<Booking>> byUserId = new HashMap<>();
+        for (Booking booking : bookings) {
+            byUserId.computeIfAbsent(booking.getUserId(), k -> new ArrayList<>()).add(booking);
+        }
+        byUserId.forEach((userId, added) -> {
+            added.sort(CHECK_IN_ORDER);
+            byUser.computeIfAbsent(userId, k -> new History()).merge(added);
+        });
+    }
+
+    void remove(Booking booking) {
+        History history = byUser.get(booking.getUserId());
+        if (history != null) {
+            history.remove(booking);
+            if (history.size == 0) {
+                byUser.remove(booking.getUserId());
+            }
+        }
+    }
+
+    int count(int userId) {
+        History history = byUser.get(userId);
+        return history == null ? 0 : history.size;
+    }
+
+    // Booking ids at positions [offset, offset + limit) in check-in order
+    int[] bookingIds(int userId, int offset, int limit) {
+        History history = byUser.get(userId);
+        if (history == null || offset >= history.size) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(history.bookingIds, offset, Math.min(history.size, offset + limit));
+    }
+
+    // Sum of the totals of the bookings at positions [0, position]
+    long runningTotal(int userId, int position) {
+        return byUser.get(userId).runningTotals[position];
+    }
+
+    long totalSpent(int userId) {
+        History history = byUser.get(userId);
+        return history == null ? 0 : history.runningTotals[history.size - 1];
+    }
+
+    private static class History {
+        private long[] checkIns = new long[4];
+        private int[] bookingIds = new int[4];
+        private int[] prices = new int[4];
+        private long[] runningTotals = new long[4];
+        private int size;
+
+        void add(Booking booking) {
+            if (size == bookingIds.length) {
+                int capacity = size * 2;
+                checkIns = Arrays.copyOf(checkIns, capacity);
+                bookingIds = Arrays.copyOf(bookingIds, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                runningTotals = Arrays.copyOf(runningTotals, capacity);
+            }
+
+            long checkIn = booking.getCheckIn().getTime();
+            int position = find(checkIn, booking.getBookingId());
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+
+            int moved = size - position;
+            System.arraycopy(checkIns, position, checkIns, position + 1, moved);
+            System.arraycopy(bookingIds, position, bookingIds, position + 1, moved);
+            System.arraycopy(prices, position, prices, position + 1, moved);
+            checkIns[position] = checkIn;
+            bookingIds[position] = booking.getBookingId();
+            prices[position] = booking.getTotalPrice();
+            size++;
+            updateRunningTotals(position);
+        }
+
+        void merge(List<Booking> sorted) {
+            int capacity = Math.max(4, size + sorted.size());
+            long[] mergedCheckIns = new long[capacity];
+            int[] mergedIds = new int[capacity];
+            int[] mergedPrices = new int[capacity];
+
+            int i = 0;
+            int merged = 0;
+            for (Booking booking : sorted) {
+                long checkIn = booking.getCheckIn().getTime();
+                int cmp = -1;
+                while (i < size && (cmp = compare(i, checkIn, booking.getBookingId())) < 0) {
+                    mergedCheckIns[merged] = checkIns[i];
+                    mergedIds[merged] = bookingIds[i];
+                    mergedPrices[merged++] = prices[i++];
+                }
+                if (cmp == 0) {
+                    continue;
+                }
+                mergedCheckIns[merged] = checkIn;
+                mergedIds[merged] = booking.getBookingId();
+                mergedPrices[merged++] = booking.getTotalPrice();
+            }
+            int rest = size - i;
+            System.arraycopy(checkIns, i, mergedCheckIns, merged, rest);
+            System.arraycopy(bookingIds, i, mergedIds, merged, rest);
+            System.arraycopy(prices, i, mergedPrices, merged, rest);
+
+            checkIns = mergedCheckIns;
+            bookingIds = mergedIds;
+            prices = mergedPrices;
+            runningTotals = new long[capacity];
+            size = merged + rest;
+            updateRunningTotals(0);
+        }
+
+        void remove(Booking booking) {
+            int position = find(booking.getCheckIn().getTime(), booking.getBookingId());
+            if (position < 0) {
+                return;
+            }
+
+            int moved = size - position - 1;
+            System.arraycopy(checkIns, position + 1, checkIns, position, moved);
+            System.arraycopy(bookingIds, position + 1, bookingIds, position, moved);
+            System.arraycopy(prices, position + 1, prices, position, moved);
+            size--;
+            updateRunningTotals(position);
+        }
+
+        // Binary search on (checkIn, bookingId), -(insertion point) - 1 when absent
+        private int find(long checkIn, int bookingId) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(mid, checkIn, bookingId);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -low - 1;
+        }
+
+        private int compare(int position, long checkIn, int bookingId) {
+            int cmp = Long.compare(checkIns[position], checkIn);
+            return cmp != 0 ? cmp : Integer.compare(bookingIds[position], bookingId);
+        }
+
+        private void updateRunningTotals(int from) {
+            long total = from == 0 ? 0 : runningTotals[from - 1];
+            for (int i = from; i < size; i++) {
+                total += prices[i];
+                runningTotals[i] = total;
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.skypay.hotelreservationsystem.service;
+
+import com.skypay.hotelreservationsystem.domain.WaitlistEntry;
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index over waiting intervals, keyed by requested room and by requested room type.
+ * Entries are ordered by check-in so that only those overlapping a freed period are visited.
+ */
+class WaitlistIndex {
+    private final Map<Integer, IntervalBucket> byRoom = new HashMap<>();
+    private final Map<RoomType, IntervalBucket> byRoomType = new EnumMap<>(RoomType.class);
+
+    void add(WaitlistEntry entry) {
+        bucketFor(entry, true).add(entry);
+    }
+
+    void remove(WaitlistEntry entry) {
+        IntervalBucket bucket = bucketFor(entry, false);
+        if (bucket != null) {
+            bucket.remove(entry);
+        }
+    }
+
+    /**
+     * Returns the waiting entries for the given room (or its type) whose period overlaps
+     * [from, to), oldest request first.
+     */
+    List<WaitlistEntry> findOverlapping(int roomNumber, RoomType roomType, Date from, Date to) {
+        List<WaitlistEntry> result = new ArrayList<>();
+
+        IntervalBucket roomBucket = byRoom.get(roomNumber);
+        if (roomBucket != null) {
+            roomBucket.collectOverlapping(from.getTime(), to.getTime(), result);
+        }
+
+        IntervalBucket typeBucket = byRoomType.get(roomType);
+        if (typeBucket != null) {
+            typeBucket.collectOverlapping(from.getTime(), to.getTime(), result);
+        }
+
+        result.sort(Comparator.comparingInt(WaitlistEntry::getWaitlistId));
+        return result;
+    }
+
+    private IntervalBucket bucketFor(WaitlistEntry entry, boolean create) {
+        if (entry.getRoomNumber() != null) {
+            return create
+                    ? byRoom.computeIfAbsent(entry.getRoomNumber(), k -> new IntervalBucket())
+                    : byRoom.get(entry.getRoomNumber());
+        }
+        return create
+                ? byRoomType.computeIfAbsent(entry.getRoomType(), k -> new IntervalBucket())
+                : byRoomType.get(entry.getRoomType());
+    }
+
+    private static class IntervalBucket {
+        private final TreeMap<Long, List<WaitlistEntry>> byCheckIn = new TreeMap<>();
+        // Number of waiting entries per stay length; the longest one bounds how far back
+        // an overlapping check-in can be, and shrinks again when long stays leave
+        private final TreeMap<Long, Integer> lengths = new TreeMap<>();
+
+        void add(WaitlistEntry entry) {
+            long start = entry.getCheckIn().getTime();
+            byCheckIn.computeIfAbsent(start, k -> new ArrayList<>()).add(entry);
+            lengths.merge(length(entry), 1, Integer::sum);
+        }
+
+        void remove(WaitlistEntry entry) {
+            long start = entry.getCheckIn().getTime();
+            List<WaitlistEntry> entries = byCheckIn.get(start);
+            if (entries != null && entries.remove(entry)) {
+                if (entries.isEmpty()) {
+                    byCheckIn.remove(start);
+                }
+                lengths.computeIfPresent(length(entry), (k, count) -> count == 1 ? null : count - 1);
+            }
+        }
+
+        void collectOverlapping(long from, long to, List<WaitlistEntry> result) {
+            if (lengths.isEmpty()) {
+                return;
+            }
+            // An entry overlaps [from, to) when checkIn < to and checkOut > from,
+            // so its check-in cannot be earlier than from - longest stay
+            byCheckIn.subMap(from - lengths.lastKey(), false, to, false)
+                    .values()
+                    .forEach(entries -> entries.stream()
+                            .filter(e -> e.getCheckOut().getTime() > from)
+                            .forEach(result::add));
+        }
+
+        private static long length(WaitlistEntry entry) {
+            return entry.getCheckOut().getTime() - entry.getCheckIn().getTime();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.skypay.hotelreservationsystem.web;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+import com.skypay.hotelreservationsystem.service.Service;
+import com.skypay.hotelreservationsystem.web.dto.BookingRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static com.skypay.hotelreservationsystem.util.Utils.toDate;
+
+@RestController
+@RequestMapping("/api/bookings")
+@RequiredArgsConstructor
+public class BookingController {
+    private final Service service;
+
+    @GetMapping
+    public Flux<Booking> getBookings() {
+        return Flux.defer(() -> Flux.fromIterable(service.getBookings()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Booking> bookRoom(@RequestBody BookingRequest request) {
+        return Mono.fromSupplier(() -> {
+            if (request.getCheckIn() == null || request.getCheckOut() == null) {
+                throw new IllegalArgumentException("Check-in and check-out dates are required");
+            }
+            return service.bookRoom(request.getUserId(), request.getRoomNumber(),
+                    toDate(request.getCheckIn()), toDate(request.getCheckOut()));
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @DeleteMapping("/{bookingId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> cancelBooking(@PathVariable int bookingId) {
+        return Mono.<Void>fromRunnable(() -> service.cancelBooking(bookingId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
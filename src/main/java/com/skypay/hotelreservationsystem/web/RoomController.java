@@ -0,0 +1,52 @@
+package com.skypay.hotelreservationsystem.web;
+
+import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.service.Service;
+import com.skypay.hotelreservationsystem.web.dto.RoomRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+
+import static com.skypay.hotelreservationsystem.util.Utils.toDate;
+
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+public class RoomController {
+    private final Service service;
+
+    @GetMapping
+    public Flux<Room> getRooms() {
+        return Flux.defer(() -> Flux.fromIterable(service.getRooms()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/{roomNumber}")
+    public Mono<Room> getRoom(@PathVariable int roomNumber) {
+        return Mono.fromSupplier(() -> service.getRoom(roomNumber))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PutMapping("/{roomNumber}")
+    public Mono<Room> setRoom(@PathVariable int roomNumber, @RequestBody RoomRequest request) {
+        return Mono.fromSupplier(() -> service.setRoom(roomNumber, request.getRoomType(), request.getPricePerNight()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // Availability search, roomType is optional
+    @GetMapping("/available")
+    public Flux<Room> findAvailableRooms(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(required = false) RoomType roomType) {
+        return Flux.defer(() -> Flux.fromIterable(
+                service.findAvailableRooms(toDate(checkIn), toDate(checkOut), roomType)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
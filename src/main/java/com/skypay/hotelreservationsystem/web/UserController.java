@@ -0,0 +1,45 @@
+package com.skypay.hotelreservationsystem.web;
+
+import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.domain.UserStatement;
+import com.skypay.hotelreservationsystem.service.Service;
+import com.skypay.hotelreservationsystem.web.dto.UserRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+    private final Service service;
+
+    @GetMapping
+    public Flux<User> getUsers() {
+        return Flux.defer(() -> Flux.fromIterable(service.getUsers()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<User> getUser(@PathVariable int userId) {
+        return Mono.fromSupplier(() -> service.getUser(userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PutMapping("/{userId}")
+    public Mono<User> setUser(@PathVariable int userId, @RequestBody UserRequest request) {
+        return Mono.fromSupplier(() -> service.setUser(userId, request.getBalance()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // Bookings in check-in order with running totals, one page at a time
+    @GetMapping("/{userId}/statement")
+    public Mono<UserStatement> getStatement(@PathVariable int userId,
+                                            @RequestParam(defaultValue = "0") int offset,
+                                            @RequestParam(defaultValue = "20") int limit) {
+        return Mono.fromSupplier(() -> service.getUserStatement(userId, offset, limit))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
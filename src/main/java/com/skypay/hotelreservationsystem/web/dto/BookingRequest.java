@@ -0,0 +1,17 @@
+package com.skypay.hotelreservationsystem.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingRequest {
+    private int userId;
+    private int roomNumber;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+}
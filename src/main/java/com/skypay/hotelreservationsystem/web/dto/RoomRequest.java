@@ -0,0 +1,14 @@
+package com.skypay.hotelreservationsystem.web.dto;
+
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomRequest {
+    private RoomType roomType;
+    private int pricePerNight;
+}
@@ -0,0 +1,12 @@
+package com.skypay.hotelreservationsystem.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRequest {
+    private int balance;
+}
@@ -0,0 +1,312 @@
+package com.skypay.hotelreservationsystem.bulk;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.repository.jdbc.JdbcDatabase;
+import com.skypay.hotelreservationsystem.service.Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkLoaderTest {
+    private static final int ROOMS = 1_000;
+    private static final int USERS = 10_000;
+    private static final int BOOKINGS = 500_000;
+
+    @TempDir
+    Path tempDir;
+
+    private Date createDate(int year, int month, int day) {
+        Calendar cal = Calendar.getInstance();
+        cal.set(year, month - 1, day, 0, 0, 0);
+        cal.set(Calendar.MILLISECOND, 0);
+        return cal.getTime();
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    // ========== ROUND TRIP TESTS ==========
+
+    @ParameterizedTest
+    @EnumSource(BulkFormat.class)
+    @DisplayName("Should load back exactly what was exported")
+    void testRoundTrip(BulkFormat format) throws IOException {
+        Service source = new Service();
+        source.setRoom(1, RoomType.STANDARD, 1000);
+        source.setRoom(2, RoomType.SUITE, 3000);
+        source.setUser(1, 10000);
+        source.setUser(2, 20000);
+        source.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 9));
+        source.bookRoom(2, 2, createDate(2026, 12, 31), createDate(2027, 1, 2));
+        source.setRoom(1, RoomType.JUNIOR, 5000);
+
+        Path file = tempDir.resolve("export." + format.name().toLowerCase());
+        source.bulkExport(file, format);
+
+        Service target = new Service();
+        BulkLoadResult result = target.bulkLoad(file, format);
+
+        assertEquals(0, result.getRejected(), result.getErrors().toString());
+        assertEquals(2, result.getRooms());
+        assertEquals(2, result.getUsers());
+        assertEquals(2, result.getBookings());
+
+        for (int i = 0; i < 2; i++) {
+            Room expected = source.getRooms().get(i);
+            Room actual = target.getRooms().get(i);
+            assertEquals(expected.getRoomNumber(), actual.getRoomNumber());
+            assertEquals(expected.getRoomType(), actual.getRoomType());
+            assertEquals(expected.getPricePerNight(), actual.getPricePerNight());
+            assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+
+            User expectedUser = source.getUsers().get(i);
+            User actualUser = target.getUsers().get(i);
+            assertEquals(expectedUser.getUserId(), actualUser.getUserId());
+            assertEquals(expectedUser.getBalance(), actualUser.getBalance());
+            assertEquals(expectedUser.getCreatedAt(), actualUser.getCreatedAt());
+
+            Booking expectedBooking = source.getBookings().get(i);
+            Booking actualBooking = target.getBookings().get(i);
+            assertEquals(expectedBooking.getBookingId(), actualBooking.getBookingId());
+            assertEquals(expectedBooking.getUserId(), actualBooking.getUserId());
+            assertEquals(expectedBooking.getRoomNumber(), actualBooking.getRoomNumber());
+            assertEquals(expectedBooking.getCheckIn(), actualBooking.getCheckIn());
+            assertEquals(expectedBooking.getCheckOut(), actualBooking.getCheckOut());
+            assertEquals(expectedBooking.getTotalPrice(), actualBooking.getTotalPrice());
+            assertEquals(expectedBooking.getCreatedAt(), actualBooking.getCreatedAt());
+            assertEquals(expectedBooking.getRoomTypeSnapshot(), actualBooking.getRoomTypeSnapshot());
+            assertEquals(expectedBooking.getRoomPriceSnapshot(), actualBooking.getRoomPriceSnapshot());
+            assertEquals(expectedBooking.getUserBalanceSnapshot(), actualBooking.getUserBalanceSnapshot());
+        }
+
+        // Loaded bookings show up in the user's statement
+        assertEquals(source.getUserStatement(2, 0, 10).getTotalSpent(),
+                target.getUserStatement(2, 0, 10).getTotalSpent());
+        assertEquals(1, target.getUserStatement(2, 0, 10).getTotalBookings());
+
+        // Loaded bookings are history: availability and numbering carry on from them
+        assertThrows(IllegalArgumentException.class,
+                () -> target.bookRoom(1, 1, createDate(2026, 7, 8), createDate(2026, 7, 10)));
+        assertEquals(3, target.bookRoom(1, 1, createDate(2026, 7, 9), createDate(2026, 7, 10)).getBookingId());
+    }
+
+    // ========== VALIDATION TESTS ==========
+
+    @Test
+    @DisplayName("Should apply Service validation rules and skip rejected rows")
+    void testValidation() throws IOException {
+        Path file = write("invalid.csv",
+                "# comment",
+                "room,1,STANDARD,1000,0",
+                "room,0,STANDARD,1000,0",                       // Room number must be positive
+                "room,2,STANDARD,-1,0",                         // Price cannot be negative
+                "room,3,PENTHOUSE,1000,0",                      // Unknown room type
+                "user,1,5000,0",
+                "user,-1,5000,0",                               // User ID must be positive
+                "user,2,-5,0",                                  // Balance cannot be negative
+                "user,3,12x,0",                                 // Invalid number
+                "",
+                "booking,1,1,1,2026-07-07,2026-07-09,2000,0,STANDARD,1000,5000",
+                "booking,1,1,1,2026-08-07,2026-08-09,2000,0,STANDARD,1000,5000", // Duplicate booking ID
+                "booking,2,1,1,2026-07-08,2026-07-10,2000,0,STANDARD,1000,5000", // Overlapping stay
+                "booking,3,1,1,2026-07-09,2026-07-09,0,0,STANDARD,1000,5000",    // Check-out not after check-in
+                "booking,4,9,1,2026-09-01,2026-09-02,1000,0,STANDARD,1000,5000", // Unknown user
+                "booking,5,1,9,2026-09-01,2026-09-02,1000,0,STANDARD,1000,5000", // Unknown room
+                "booking,6,1,1,2026-02-30,2026-03-02,1000,0,STANDARD,1000,5000", // Invalid date
+                "booking,7,1,1,2026-09-01,2026-09-02",                          // Missing field
+                "suite,1,2,3"                                                    // Unknown record type
+        );
+
+        Service service = new Service();
+        BulkLoadResult result = service.bulkLoad(file);
+
+        assertEquals(1, result.getRooms());
+        assertEquals(1, result.getUsers());
+        assertEquals(1, result.getBookings());
+        assertEquals(14, result.getRejected());
+        assertTrue(result.getErrors().get(0).startsWith("Line 3: Room number must be positive"));
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.contains("already exists")));
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.contains("not available")));
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.contains("after check-in")));
+        assertEquals(5000, service.getUser(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("Should default omitted createdAt and snapshot columns")
+    void testOptionalColumns() throws IOException {
+        Path file = write("short.csv",
+                "room,1,STANDARD,1000",
+                "user,1,5000",
+                "booking,1,1,1,2026-07-07,2026-07-08,1000",
+                "room,1,SUITE,3000",
+                "booking,2,1,1,2026-07-08,2026-07-09,3000,0,JUNIOR",
+                "user,1,5000,0,extra"                                            // Too many fields
+        );
+        Date before = new Date();
+
+        Service service = new Service();
+        BulkLoadResult result = service.bulkLoad(file);
+
+        assertEquals(2, result.getRooms());
+        assertEquals(1, result.getUsers());
+        assertEquals(2, result.getBookings());
+        assertEquals(1, result.getRejected());
+        assertNotNull(result.getFirstBookingAt());
+        assertFalse(service.getUser(1).getCreatedAt().before(before));
+
+        // Snapshots left out are taken from the room and user as stored at that point of the file
+        Booking first = service.getBookings().get(0);
+        assertEquals(RoomType.STANDARD, first.getRoomTypeSnapshot());
+        assertEquals(1000, first.getRoomPriceSnapshot());
+        assertEquals(5000, first.getUserBalanceSnapshot());
+        assertFalse(first.getCreatedAt().before(before));
+
+        Booking second = service.getBookings().get(1);
+        assertEquals(RoomType.JUNIOR, second.getRoomTypeSnapshot());
+        assertEquals(3000, second.getRoomPriceSnapshot());
+        assertEquals(new Date(0), second.getCreatedAt());
+        assertEquals(5000, service.getUser(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("Should parse NDJSON with any key order, spacing and unknown keys")
+    void testNdjsonParsing() throws IOException {
+        Path file = write("data.ndjson",
+                "{ \"pricePerNight\": 1000, \"type\": \"room\", \"roomNumber\": 1, \"roomType\": \"SUITE\", \"createdAt\": 0, \"floor\": 3 }\r",
+                "{\"type\":\"user\",\"userId\":1,\"balance\":5000,\"createdAt\":0}",
+                "{\"type\":\"user\",\"userId\":2,\"createdAt\":0}",             // Missing balance
+                "{\"type\":\"user\",\"userId\":3,\"balance\":\"a\\\"b\",\"createdAt\":0}", // Escaped string
+                "{\"type\":\"user\",\"userId\":4,\"balance\":5000,\"createdAt\":0",  // Unterminated object
+                "{\"type\":\"booking\",\"bookingId\":10,\"userId\":1,\"roomNumber\":1,\"checkIn\":\"2026-07-07\","
+                        + "\"checkOut\":\"2026-07-08\",\"totalPrice\":1000,\"createdAt\":0,\"roomTypeSnapshot\":\"SUITE\","
+                        + "\"roomPriceSnapshot\":1000,\"userBalanceSnapshot\":5000}"
+        );
+
+        Service service = new Service();
+        BulkLoadResult result = service.bulkLoad(file);
+
+        assertEquals(1, result.getRooms());
+        assertEquals(1, result.getUsers());
+        assertEquals(1, result.getBookings());
+        assertEquals(3, result.getRejected());
+        assertEquals(RoomType.SUITE, service.getRoom(1).getRoomType());
+        assertEquals(11, service.bookRoom(1, 1, createDate(2026, 7, 8), createDate(2026, 7, 9)).getBookingId());
+    }
+
+    @Test
+    @DisplayName("Should load into a non-empty embedded database")
+    void testLoadIntoJdbc() throws IOException {
+        try (JdbcDatabase database = new JdbcDatabase("jdbc:h2:mem:" + UUID.randomUUID())) {
+            Service service = new Service(database.rooms(), database.users(), database.bookings(),
+                    database.unitOfWork());
+            service.setRoom(1, RoomType.STANDARD, 1000);
+            service.setUser(1, 10000);
+            service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 9));
+
+            Path file = write("more.csv",
+                    "room,2,SUITE,3000,0",
+                    "booking,1,1,2,2026-08-01,2026-08-02,3000,0,SUITE,3000,8000",   // ID already stored
+                    "booking,2,1,1,2026-07-08,2026-07-10,2000,0,STANDARD,1000,8000", // Overlaps the stored stay
+                    "booking,3,1,1,2026-07-09,2026-07-10,1000,0,STANDARD,1000,8000",
+                    "booking,4,1,2,2026-07-09,2026-07-10,3000,0,SUITE,3000,8000"
+            );
+            BulkLoadResult result = service.bulkLoad(file);
+
+            assertEquals(1, result.getRooms());
+            assertEquals(2, result.getBookings());
+            assertEquals(2, result.getRejected());
+            assertTrue(result.getErrors().get(0).contains("already exists"));
+            assertTrue(result.getErrors().get(1).contains("not available"));
+            assertEquals(3, database.bookings().count());
+            assertEquals(3, service.getUserStatement(1, 0, 10).getTotalBookings());
+            assertEquals(5, service.bookRoom(1, 2, createDate(2026, 7, 10), createDate(2026, 7, 11)).getBookingId());
+        }
+    }
+
+    // ========== THROUGHPUT TESTS ==========
+
+    @ParameterizedTest
+    @EnumSource(BulkFormat.class)
+    @Tag("benchmark")
+    @DisplayName("Should stream a large file in and out")
+    void testThroughput(BulkFormat format) throws IOException {
+        Path file = tempDir.resolve("large." + format.name().toLowerCase());
+        generate(file, format);
+        long rows = ROOMS + USERS + BOOKINGS;
+
+        Service service = new Service();
+        long start = System.nanoTime();
+        BulkLoadResult result = service.bulkLoad(file, format);
+        double loadSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        assertEquals(0, result.getRejected(), result.getErrors().toString());
+        assertEquals(rows, result.getLoaded());
+
+        Path export = tempDir.resolve("export." + format.name().toLowerCase());
+        start = System.nanoTime();
+        service.bulkExport(export, format);
+        double exportSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("%s bulk load: %d rows in %.2fs -> %.0f rows/min%n",
+                format, rows, loadSeconds, rows / loadSeconds * 60);
+        System.out.printf("%s bulk export: %d rows in %.2fs -> %.0f rows/min%n",
+                format, rows, exportSeconds, rows / exportSeconds * 60);
+        try (Stream<String> lines = Files.lines(export)) {
+            assertEquals(rows, lines.count());
+        }
+    }
+
+    // One night per booking, cycling through all rooms before moving to the next night
+    private void generate(Path file, BulkFormat format) throws IOException {
+        boolean json = format == BulkFormat.NDJSON;
+        LocalDate first = LocalDate.of(2020, 1, 1);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 1; i <= ROOMS; i++) {
+                writer.write(json
+                        ? "{\"type\":\"room\",\"roomNumber\":" + i + ",\"roomType\":\"STANDARD\",\"pricePerNight\":100,\"createdAt\":0}\n"
+                        : "room," + i + ",STANDARD,100,0\n");
+            }
+            for (int i = 1; i <= USERS; i++) {
+                writer.write(json
+                        ? "{\"type\":\"user\",\"userId\":" + i + ",\"balance\":100000,\"createdAt\":0}\n"
+                        : "user," + i + ",100000,0\n");
+            }
+            for (int i = 0; i < BOOKINGS; i++) {
+                String checkIn = first.plusDays(i / ROOMS).toString();
+                String checkOut = first.plusDays(i / ROOMS + 1).toString();
+                int userId = i % USERS + 1;
+                int roomNumber = i % ROOMS + 1;
+                writer.write(json
+                        ? "{\"type\":\"booking\",\"bookingId\":" + (i + 1) + ",\"userId\":" + userId
+                        + ",\"roomNumber\":" + roomNumber + ",\"checkIn\":\"" + checkIn + "\",\"checkOut\":\"" + checkOut
+                        + "\",\"totalPrice\":100,\"createdAt\":0,\"roomTypeSnapshot\":\"STANDARD\""
+                        + ",\"roomPriceSnapshot\":100,\"userBalanceSnapshot\":100000}\n"
+                        : "booking," + (i + 1) + "," + userId + "," + roomNumber + "," + checkIn + "," + checkOut
+                        + ",100,0,STANDARD,100,100000\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.skypay.hotelreservationsystem.launcher;
+
+import com.skypay.hotelreservationsystem.repository.jdbc.JdbcDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LauncherTest {
+    private static final Pattern FIRST_BOOKING = Pattern.compile("First booking after (\\d+) ms");
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeCsv(int bookings) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# rooms, users, then bookings");
+        lines.add("room,1,STANDARD,1000");
+        lines.add("room,2,SUITE,3000");
+        lines.add("user,1,100000000");
+        for (int i = 0; i < bookings; i++) {
+            String checkIn = LocalDate.of(2030, 1, 1).plusDays(i).toString();
+            String checkOut = LocalDate.of(2030, 1, 1).plusDays(i + 1).toString();
+            int roomNumber = i % 2 + 1;
+            lines.add("booking," + (i + 1) + ",1," + roomNumber + "," + checkIn + "," + checkOut
+                    + "," + roomNumber * 1000 + (i % 2 == 0 ? "" : ",0,SUITE,3000,100000000"));
+        }
+        Path csv = tempDir.resolve("import.csv");
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+        return csv;
+    }
+
+    @Test
+    @DisplayName("Should import CSV rows into a database and reject invalid lines")
+    void testImport() throws IOException {
+        Path csv = tempDir.resolve("mixed.csv");
+        Files.write(csv, List.of(
+                "room,1,STANDARD,1000",
+                "room,-1,STANDARD,1000",      // Invalid room number
+                "user,1,5000",
+                "user,2,abc",                 // Not a number
+                "booking,1,1,1,2026-07-07,2026-07-08,1000",
+                "booking,2,1,1,2026-07-07,2026-07-08,1000", // Room not available
+                "booking,3,1,1,2026-07-09",   // Missing field
+                "",
+                "suite,1"                      // Unknown record type
+        ), StandardCharsets.UTF_8);
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+        assertEquals(1, Launcher.run(new String[]{"import", csv.toString(), "--jdbc", url}));
+
+        try (JdbcDatabase database = new JdbcDatabase(url)) {
+            assertEquals(1, database.rooms().count());
+            assertEquals(1, database.users().count());
+            assertEquals(1, database.bookings().count());
+            // Imported bookings are history, balances are not debited
+            assertEquals(5000, database.users().findById(1).getBalance());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reach the first booking of a batch import without loading Spring")
+    void testTimeToFirstBooking() throws Exception {
+        Path csv = writeCsv(1000);
+        Path classLog = tempDir.resolve("classes.log");
+
+        // Fresh JVM so that startup is part of the measurement
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xlog:class+load=info:file=" + classLog,
+                "-cp", System.getProperty("java.class.path"),
+                Launcher.class.getName(), "import", csv.toString())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+
+        assertEquals(0, process.exitValue(), output);
+        assertTrue(output.contains("Imported 2 rooms, 1 users, 1000 bookings (0 rejected)"), output);
+
+        Matcher matcher = FIRST_BOOKING.matcher(output);
+        assertTrue(matcher.find(), output);
+        long millis = Long.parseLong(matcher.group(1));
+        System.out.printf("Launcher time-to-first-booking: %d ms%n", millis);
+        assertTrue(millis >= 0);
+
+        assertFalse(Files.readString(classLog).contains("org.springframework"));
+    }
+}
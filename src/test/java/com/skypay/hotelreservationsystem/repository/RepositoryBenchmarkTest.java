@@ -0,0 +1,77 @@
+package com.skypay.hotelreservationsystem.repository;
+
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.repository.jdbc.JdbcDatabase;
+import com.skypay.hotelreservationsystem.service.Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bookings/second through Service for each persistence backend. Every booking goes through the
+ * full path: user and room lookup, overlap check, insert and balance update.
+ */
+@Tag("benchmark")
+public class RepositoryBenchmarkTest {
+    private static final int ROOMS = 200;
+    private static final int USERS = 200;
+    private static final int WARM_UP_BOOKINGS = 10_000;
+    private static final int BOOKINGS = 40_000;
+
+    @Test
+    @DisplayName("Should compare booking throughput of in-memory and embedded backends")
+    void testBookingThroughput() {
+        double inMemory = measure("in-memory", new Service());
+
+        double embedded;
+        try (JdbcDatabase database = new JdbcDatabase("jdbc:h2:mem:" + UUID.randomUUID())) {
+            embedded = measure("embedded H2",
+                    new Service(database.rooms(), database.users(), database.bookings(), database.unitOfWork()));
+        }
+
+        System.out.printf("In-memory is %.1fx the embedded backend%n", inMemory / embedded);
+        assertTrue(inMemory > 0);
+        assertTrue(embedded > 0);
+    }
+
+    private double measure(String backend, Service service) {
+        for (int i = 1; i <= ROOMS; i++) {
+            service.setRoom(i, RoomType.values()[i % RoomType.values().length], 100);
+        }
+        for (int i = 1; i <= USERS; i++) {
+            service.setUser(i, Integer.MAX_VALUE);
+        }
+
+        // Warm-up on nights before the measured ones
+        book(service, 0, WARM_UP_BOOKINGS);
+
+        long start = System.nanoTime();
+        book(service, WARM_UP_BOOKINGS, BOOKINGS);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double bookingsPerSecond = BOOKINGS / seconds;
+        System.out.printf("%s: %d bookings in %.2fs -> %.0f bookings/s%n",
+                backend, BOOKINGS, seconds, bookingsPerSecond);
+        assertEquals(WARM_UP_BOOKINGS + BOOKINGS, service.getBookings().size());
+        return bookingsPerSecond;
+    }
+
+    // One night per booking, cycling through all rooms before moving to the next night
+    private void book(Service service, int from, int count) {
+        Calendar cal = Calendar.getInstance();
+        for (int i = from; i < from + count; i++) {
+            cal.set(2030, Calendar.JANUARY, 1, 0, 0, 0);
+            cal.set(Calendar.MILLISECOND, 0);
+            cal.add(Calendar.DAY_OF_MONTH, i / ROOMS);
+            Date checkIn = cal.getTime();
+            cal.add(Calendar.DAY_OF_MONTH, 1);
+            service.bookRoom(i % USERS + 1, i % ROOMS + 1, checkIn, cal.getTime());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.skypay.hotelreservationsystem.repository.jdbc;
+
+import com.skypay.hotelreservationsystem.domain.Booking;
+import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.service.Service;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JdbcDatabaseTest {
+    private String url;
+    private JdbcDatabase database;
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        // Small batches so that saveAll runs several JDBC batches
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        database = new JdbcDatabase(url, 2);
+        service = new Service(database.rooms(), database.users(), database.bookings(), database.unitOfWork());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    private Date createDate(int year, int month, int day) {
+        Calendar cal = Calendar.getInstance();
+        cal.set(year, month - 1, day, 0, 0, 0);
+        cal.set(Calendar.MILLISECOND, 0);
+        return cal.getTime();
+    }
+
+    @Test
+    @DisplayName("Should persist room and user updates")
+    void testRoomAndUserUpdates() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setRoom(1, RoomType.SUITE, 2000);
+        service.setUser(1, 5000);
+        service.setUser(1, 7000);
+
+        assertEquals(1, database.rooms().count());
+        assertEquals(RoomType.SUITE, database.rooms().findById(1).getRoomType());
+        assertEquals(2000, database.rooms().findById(1).getPricePerNight());
+        assertEquals(7000, database.users().findById(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("Should detect overlaps with stored bookings")
+    void testOverlap() {
+        service.setRoom(1, RoomType.STANDARD, 100);
+        service.setUser(1, 100000);
+
+        service.bookRoom(1, 1, createDate(2026, 7, 1), createDate(2026, 7, 3));
+        service.bookRoom(1, 1, createDate(2026, 7, 3), createDate(2026, 7, 5));
+        service.bookRoom(1, 1, createDate(2026, 7, 5), createDate(2026, 7, 7));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.bookRoom(1, 1, createDate(2026, 7, 2), createDate(2026, 7, 3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.bookRoom(1, 1, createDate(2026, 7, 6), createDate(2026, 7, 8)));
+        assertDoesNotThrow(() -> service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 8)));
+
+        assertEquals(4, service.getBookings().size());
+        assertEquals(100000 - 7 * 100, service.getUser(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("Should restore bookings with their snapshots and continue numbering")
+    void testReopenDatabase() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 10000);
+        service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 8));
+        service.setRoom(1, RoomType.SUITE, 5000);
+        database.close();
+
+        database = new JdbcDatabase(url, 2);
+        service = new Service(database.rooms(), database.users(), database.bookings(), database.unitOfWork());
+
+        Booking booking = service.getBookings().get(0);
+        assertEquals(1, booking.getBookingId());
+        assertEquals(RoomType.STANDARD, booking.getRoomTypeSnapshot());
+        assertEquals(1000, booking.getRoomPriceSnapshot());
+        assertEquals(10000, booking.getUserBalanceSnapshot());
+        assertEquals(createDate(2026, 7, 7), booking.getCheckIn());
+        assertEquals(9000, service.getUser(1).getBalance());
+
+        Booking next = service.bookRoom(1, 1, createDate(2026, 7, 8), createDate(2026, 7, 9));
+        assertEquals(2, next.getBookingId());
+    }
+
+    @Test
+    @DisplayName("Should delete cancelled bookings and refund the user")
+    void testCancelBooking() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+
+        Booking first = service.bookRoom(1, 1, createDate(2026, 7, 1), createDate(2026, 7, 2));
+        Booking second = service.bookRoom(1, 1, createDate(2026, 7, 2), createDate(2026, 7, 3));
+
+        service.cancelBooking(second.getBookingId());
+        service.cancelBooking(first.getBookingId());
+
+        assertEquals(0, database.bookings().count());
+        assertEquals(5000, service.getUser(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("Should store a booking and the balance update together or not at all")
+    void testUnitOfWorkRollback() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+        Booking booking = new Booking(1, 1, 1, createDate(2026, 7, 1), createDate(2026, 7, 2), 1000,
+                database.rooms().findById(1), database.users().findById(1));
+
+        assertThrows(IllegalStateException.class, () -> database.unitOfWork().run(() -> {
+            database.bookings().save(booking);
+            database.users().save(new User(1, 4000));
+            throw new IllegalStateException("Crash before commit");
+        }));
+
+        assertEquals(0, database.bookings().count());
+        assertEquals(5000, database.users().findById(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("Should leave the repository usable after a failed batch")
+    void testFailedSaveAll() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+        Room room = database.rooms().findById(1);
+        User user = database.users().findById(1);
+        Booking first = new Booking(1, 1, 1, createDate(2026, 7, 1), createDate(2026, 7, 2), 1000, room, user);
+        Booking second = new Booking(2, 1, 1, createDate(2026, 7, 2), createDate(2026, 7, 3), 1000, room, user);
+        Booking duplicate = new Booking(1, 1, 1, createDate(2026, 7, 3), createDate(2026, 7, 4), 1000, room, user);
+
+        // The duplicate ID fails the third row, after a first batch of two has been sent
+        assertThrows(IllegalStateException.class,
+                () -> database.bookings().saveAll(List.of(first, second, duplicate)));
+        assertEquals(0, database.bookings().count());
+
+        database.bookings().saveAll(List.of(first, second));
+        database.bookings().save(new Booking(3, 1, 1, createDate(2026, 7, 3), createDate(2026, 7, 4), 1000, room, user));
+        assertEquals(3, database.bookings().count());
+        assertEquals(3, database.bookings().findMaxId());
+    }
+}
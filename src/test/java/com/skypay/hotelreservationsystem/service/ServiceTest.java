@@ -2,13 +2,22 @@ package com.skypay.hotelreservationsystem.service;
 
 import com.skypay.hotelreservationsystem.domain.Booking;
 import com.skypay.hotelreservationsystem.domain.Room;
+import com.skypay.hotelreservationsystem.domain.StatementLine;
+import com.skypay.hotelreservationsystem.domain.User;
+import com.skypay.hotelreservationsystem.domain.UserStatement;
+import com.skypay.hotelreservationsystem.domain.WaitlistEntry;
 import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.repository.UnitOfWork;
+import com.skypay.hotelreservationsystem.repository.memory.InMemoryBookingRepository;
+import com.skypay.hotelreservationsystem.repository.memory.InMemoryRoomRepository;
+import com.skypay.hotelreservationsystem.repository.memory.InMemoryUserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,10 +43,10 @@ public class ServiceTest {
     void testCreateRoom() {
         service.setRoom(1, RoomType.STANDARD, 1000);
 
-        assertEquals(1, service.rooms.size());
-        assertEquals(1, service.rooms.get(0).getRoomNumber());
-        assertEquals(RoomType.STANDARD, service.rooms.get(0).getRoomType());
-        assertEquals(1000, service.rooms.get(0).getPricePerNight());
+        assertEquals(1, service.getRooms().size());
+        assertEquals(1, service.getRooms().get(0).getRoomNumber());
+        assertEquals(RoomType.STANDARD, service.getRooms().get(0).getRoomType());
+        assertEquals(1000, service.getRooms().get(0).getPricePerNight());
     }
 
     @Test
@@ -46,9 +55,24 @@ public class ServiceTest {
         service.setRoom(1, RoomType.STANDARD, 1000);
         service.setRoom(1, RoomType.SUITE, 2000);
 
-        assertEquals(1, service.rooms.size());
-        assertEquals(RoomType.SUITE, service.rooms.get(0).getRoomType());
-        assertEquals(2000, service.rooms.get(0).getPricePerNight());
+        assertEquals(1, service.getRooms().size());
+        assertEquals(RoomType.SUITE, service.getRooms().get(0).getRoomType());
+        assertEquals(2000, service.getRooms().get(0).getPricePerNight());
+    }
+
+    @Test
+    @DisplayName("Should return room copies unaffected by later updates")
+    void testRoomSnapshot() {
+        Room created = service.setRoom(1, RoomType.STANDARD, 1000);
+        Room read = service.getRoom(1);
+
+        Room updated = service.setRoom(1, RoomType.SUITE, 2000);
+        read.setPricePerNight(5);
+
+        assertEquals(RoomType.STANDARD, created.getRoomType());
+        assertEquals(RoomType.STANDARD, read.getRoomType());
+        assertEquals(RoomType.SUITE, updated.getRoomType());
+        assertEquals(2000, service.getRoom(1).getPricePerNight());
     }
 
     @Test
@@ -78,9 +102,9 @@ public class ServiceTest {
     void testCreateUser() {
         service.setUser(1, 5000);
 
-        assertEquals(1, service.users.size());
-        assertEquals(1, service.users.get(0).getUserId());
-        assertEquals(5000, service.users.get(0).getBalance());
+        assertEquals(1, service.getUsers().size());
+        assertEquals(1, service.getUsers().get(0).getUserId());
+        assertEquals(5000, service.getUsers().get(0).getBalance());
     }
 
     @Test
@@ -89,8 +113,8 @@ public class ServiceTest {
         service.setUser(1, 5000);
         service.setUser(1, 10000);
 
-        assertEquals(1, service.users.size());
-        assertEquals(10000, service.users.get(0).getBalance());
+        assertEquals(1, service.getUsers().size());
+        assertEquals(10000, service.getUsers().get(0).getBalance());
     }
 
     @Test
@@ -128,8 +152,8 @@ public class ServiceTest {
             service.bookRoom(1, 1, checkIn, checkOut);
         });
 
-        assertEquals(1, service.bookings.size());
-        assertEquals(4000, service.users.get(0).getBalance()); // 5000 - 1000
+        assertEquals(1, service.getBookings().size());
+        assertEquals(4000, service.getUsers().get(0).getBalance()); // 5000 - 1000
     }
 
     @Test
@@ -251,7 +275,7 @@ public class ServiceTest {
             service.bookRoom(2, 1, checkIn2, checkOut2);
         });
 
-        assertEquals(2, service.bookings.size());
+        assertEquals(2, service.getBookings().size());
     }
 
     @Test
@@ -265,8 +289,8 @@ public class ServiceTest {
 
         service.bookRoom(1, 1, checkIn, checkOut);
 
-        assertEquals(5000, service.users.get(0).getBalance()); // 10000 - 5000
-        assertEquals(5000, service.bookings.get(0).getTotalPrice());
+        assertEquals(5000, service.getUsers().get(0).getBalance()); // 10000 - 5000
+        assertEquals(5000, service.getBookings().get(0).getTotalPrice());
     }
 
     // ========== SNAPSHOT TESTS ==========
@@ -286,13 +310,13 @@ public class ServiceTest {
         service.setRoom(1, RoomType.SUITE, 5000);
 
         // Booking should still have old data
-        Booking booking = service.bookings.get(0);
+        Booking booking = service.getBookings().get(0);
         assertEquals(RoomType.STANDARD, booking.getRoomTypeSnapshot());
         assertEquals(1000, booking.getRoomPriceSnapshot());
         assertEquals(5000, booking.getUserBalanceSnapshot());
 
         // Room should have new data
-        Room room = service.rooms.get(0);
+        Room room = service.getRooms().get(0);
         assertEquals(RoomType.SUITE, room.getRoomType());
         assertEquals(5000, room.getPricePerNight());
     }
@@ -308,9 +332,285 @@ public class ServiceTest {
 
         service.bookRoom(1, 1, checkIn, checkOut);
 
-        Booking booking = service.bookings.get(0);
+        Booking booking = service.getBookings().get(0);
         assertEquals(5000, booking.getUserBalanceSnapshot()); // Balance before booking
-        assertEquals(4000, service.users.get(0).getBalance()); // Current balance
+        assertEquals(4000, service.getUsers().get(0).getBalance()); // Current balance
+    }
+
+    // ========== CANCELLATION TESTS ==========
+
+    @Test
+    @DisplayName("Should refund user and free the room when booking is cancelled")
+    void testCancelBooking() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+        service.setUser(2, 5000);
+
+        service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 10));
+        service.cancelBooking(service.getBookings().get(0).getBookingId());
+
+        assertEquals(0, service.getBookings().size());
+        assertEquals(5000, service.getUsers().get(0).getBalance());
+        assertDoesNotThrow(() -> service.bookRoom(2, 1, createDate(2026, 7, 8), createDate(2026, 7, 9)));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when cancelling unknown booking")
+    void testCancelUnknownBooking() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            service.cancelBooking(42);
+        });
+
+        assertTrue(exception.getMessage().contains("not found"));
+    }
+
+    // ========== WAITLIST TESTS ==========
+
+    @Test
+    @DisplayName("Should fulfil room waitlist when overlapping booking is cancelled")
+    void testWaitlistFulfilledOnCancellation() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+        service.setUser(2, 5000);
+
+        service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 10));
+        WaitlistEntry entry = service.joinWaitlist(2, 1, createDate(2026, 7, 8), createDate(2026, 7, 11));
+
+        assertFalse(entry.isFulfilled());
+        assertEquals(1, service.waitlist.size());
+
+        service.cancelBooking(service.getBookings().get(0).getBookingId());
+
+        assertTrue(entry.isFulfilled());
+        assertEquals(0, service.waitlist.size());
+        assertEquals(1, service.getBookings().size());
+        assertEquals(2, service.getBookings().get(0).getUserId());
+        assertEquals(2000, service.getUsers().get(1).getBalance()); // 5000 - 3 nights
+    }
+
+    @Test
+    @DisplayName("Should fulfil room type waitlist on any freed room of that type")
+    void testRoomTypeWaitlist() {
+        service.setRoom(1, RoomType.SUITE, 1000);
+        service.setRoom(2, RoomType.SUITE, 1000);
+        service.setRoom(3, RoomType.STANDARD, 500);
+        service.setUser(1, 10000);
+        service.setUser(2, 10000);
+
+        service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 9));
+        service.bookRoom(1, 2, createDate(2026, 7, 7), createDate(2026, 7, 9));
+        WaitlistEntry entry = service.joinWaitlist(2, RoomType.SUITE, createDate(2026, 7, 7), createDate(2026, 7, 8));
+
+        assertFalse(entry.isFulfilled());
+
+        int cancelledId = service.getBookings().get(1).getBookingId();
+        service.cancelBooking(cancelledId);
+
+        assertTrue(entry.isFulfilled());
+        Booking booking = service.getBookings().get(service.getBookings().size() - 1);
+        assertEquals(entry.getFulfilledBookingId(), booking.getBookingId());
+        assertEquals(2, booking.getRoomNumber());
+    }
+
+    @Test
+    @DisplayName("Should book immediately when waitlisted period is already free")
+    void testWaitlistImmediateFulfilment() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+
+        WaitlistEntry entry = service.joinWaitlist(1, RoomType.STANDARD, createDate(2026, 7, 7), createDate(2026, 7, 8));
+
+        assertTrue(entry.isFulfilled());
+        assertEquals(0, service.waitlist.size());
+        assertEquals(1, service.getBookings().size());
+    }
+
+    @Test
+    @DisplayName("Should serve waitlist in request order and skip entries that cannot pay")
+    void testWaitlistOrderAndBalance() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+        service.setUser(2, 500);  // Cannot afford a night
+        service.setUser(3, 5000);
+        service.setUser(4, 5000);
+
+        service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 10));
+        WaitlistEntry poor = service.joinWaitlist(2, 1, createDate(2026, 7, 7), createDate(2026, 7, 8));
+        WaitlistEntry first = service.joinWaitlist(3, 1, createDate(2026, 7, 7), createDate(2026, 7, 9));
+        WaitlistEntry second = service.joinWaitlist(4, 1, createDate(2026, 7, 8), createDate(2026, 7, 10));
+        WaitlistEntry outside = service.joinWaitlist(4, 1, createDate(2026, 8, 1), createDate(2026, 8, 2));
+
+        service.cancelBooking(service.getBookings().get(0).getBookingId());
+
+        assertFalse(poor.isFulfilled());
+        assertTrue(first.isFulfilled());
+        assertFalse(second.isFulfilled()); // Overlaps the booking made for the first entry
+        assertTrue(outside.isFulfilled()); // Booked immediately when joining, room was free
+        assertEquals(2, service.waitlist.size());
+    }
+
+    @Test
+    @DisplayName("Should remove entry when leaving the waitlist")
+    void testLeaveWaitlist() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+        service.setUser(2, 5000);
+
+        service.bookRoom(1, 1, createDate(2026, 7, 7), createDate(2026, 7, 10));
+        WaitlistEntry entry = service.joinWaitlist(2, 1, createDate(2026, 7, 7), createDate(2026, 7, 8));
+        service.leaveWaitlist(entry.getWaitlistId());
+        service.cancelBooking(service.getBookings().get(0).getBookingId());
+
+        assertFalse(entry.isFulfilled());
+        assertEquals(0, service.getBookings().size());
+        assertThrows(IllegalArgumentException.class, () -> service.leaveWaitlist(entry.getWaitlistId()));
+    }
+
+    @Test
+    @DisplayName("Should still match overlapping entries after long stays leave the waitlist")
+    void testWaitlistIndexAfterLongStayRemoved() {
+        WaitlistIndex index = new WaitlistIndex();
+        WaitlistEntry longStay = new WaitlistEntry(1, 1, 1, RoomType.STANDARD, createDate(2026, 1, 1), createDate(2026, 12, 31));
+        WaitlistEntry shortStay = new WaitlistEntry(2, 2, 1, RoomType.STANDARD, createDate(2026, 7, 6), createDate(2026, 7, 8));
+        index.add(longStay);
+        index.add(shortStay);
+        index.remove(longStay);
+
+        assertEquals(List.of(shortStay), index.findOverlapping(1, RoomType.STANDARD, createDate(2026, 7, 7), createDate(2026, 7, 9)));
+        assertTrue(index.findOverlapping(1, RoomType.STANDARD, createDate(2026, 7, 8), createDate(2026, 7, 9)).isEmpty());
+
+        index.remove(shortStay);
+        assertTrue(index.findOverlapping(1, RoomType.STANDARD, createDate(2026, 7, 7), createDate(2026, 7, 9)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid waitlist dates")
+    void testWaitlistInvalidDates() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 5000);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            service.joinWaitlist(1, 1, createDate(2026, 7, 8), createDate(2026, 7, 7));
+        });
+    }
+
+    // ========== STATEMENT TESTS ==========
+
+    @Test
+    @DisplayName("Should list user bookings by check-in date with running totals")
+    void testUserStatement() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setRoom(2, RoomType.SUITE, 3000);
+        service.setUser(1, 50000);
+        service.setUser(2, 50000);
+
+        // Booked out of date order, interleaved with another user
+        service.bookRoom(1, 1, createDate(2026, 8, 1), createDate(2026, 8, 3));   // 2000
+        service.bookRoom(2, 1, createDate(2026, 7, 1), createDate(2026, 7, 2));
+        service.bookRoom(1, 2, createDate(2026, 7, 1), createDate(2026, 7, 2));   // 3000
+        service.bookRoom(1, 1, createDate(2026, 7, 10), createDate(2026, 7, 11)); // 1000
+
+        UserStatement statement = service.getUserStatement(1, 0, 10);
+
+        assertEquals(3, statement.getTotalBookings());
+        assertEquals(6000, statement.getTotalSpent());
+        assertEquals(44000, statement.getCurrentBalance());
+        assertFalse(statement.isHasMore());
+
+        List<StatementLine> lines = statement.getLines();
+        assertEquals(createDate(2026, 7, 1), lines.get(0).getBooking().getCheckIn());
+        assertEquals(createDate(2026, 7, 10), lines.get(1).getBooking().getCheckIn());
+        assertEquals(createDate(2026, 8, 1), lines.get(2).getBooking().getCheckIn());
+        assertEquals(3000, lines.get(0).getRunningTotal());
+        assertEquals(4000, lines.get(1).getRunningTotal());
+        assertEquals(6000, lines.get(2).getRunningTotal());
+    }
+
+    @Test
+    @DisplayName("Should build statements from bookings already stored, in any order")
+    void testUserStatementFromStoredBookings() {
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        InMemoryUserRepository users = new InMemoryUserRepository();
+        InMemoryBookingRepository bookings = new InMemoryBookingRepository();
+        Room room = new Room(1, RoomType.STANDARD, 1000);
+        User user = new User(1, 50000);
+        rooms.save(room);
+        users.save(user);
+        bookings.save(new Booking(1, 1, 1, createDate(2026, 8, 1), createDate(2026, 8, 3), 2000, room, user));
+        bookings.save(new Booking(2, 1, 1, createDate(2026, 7, 1), createDate(2026, 7, 2), 1000, room, user));
+        bookings.save(new Booking(3, 1, 1, createDate(2026, 7, 10), createDate(2026, 7, 12), 2000, room, user));
+
+        Service stored = new Service(rooms, users, bookings, UnitOfWork.NONE);
+        stored.bookRoom(1, 1, createDate(2026, 7, 5), createDate(2026, 7, 6));
+
+        List<StatementLine> lines = stored.getUserStatement(1, 0, 10).getLines();
+        assertEquals(List.of(2, 4, 3, 1), lines.stream().map(l -> l.getBooking().getBookingId()).toList());
+        assertEquals(List.of(1000L, 2000L, 4000L, 6000L), lines.stream().map(StatementLine::getRunningTotal).toList());
+    }
+
+    @Test
+    @DisplayName("Should page through statement keeping running totals")
+    void testUserStatementPaging() {
+        service.setRoom(1, RoomType.STANDARD, 100);
+        service.setUser(1, 100000);
+
+        for (int day = 1; day <= 25; day++) {
+            service.bookRoom(1, 1, createDate(2026, 7, day), createDate(2026, 7, day + 1));
+        }
+
+        UserStatement page = service.getUserStatement(1, 10, 10);
+
+        assertEquals(10, page.getLines().size());
+        assertTrue(page.isHasMore());
+        assertEquals(createDate(2026, 7, 11), page.getLines().get(0).getBooking().getCheckIn());
+        assertEquals(1100, page.getLines().get(0).getRunningTotal());
+
+        UserStatement last = service.getUserStatement(1, 20, 10);
+        assertEquals(5, last.getLines().size());
+        assertFalse(last.isHasMore());
+        assertEquals(2500, last.getLines().get(4).getRunningTotal());
+
+        assertEquals(0, service.getUserStatement(1, 30, 10).getLines().size());
+    }
+
+    @Test
+    @DisplayName("Should drop cancelled bookings from statement totals")
+    void testUserStatementAfterCancellation() {
+        service.setRoom(1, RoomType.STANDARD, 1000);
+        service.setUser(1, 10000);
+
+        service.bookRoom(1, 1, createDate(2026, 7, 1), createDate(2026, 7, 2));
+        Booking cancelled = service.bookRoom(1, 1, createDate(2026, 7, 5), createDate(2026, 7, 7));
+        service.bookRoom(1, 1, createDate(2026, 7, 10), createDate(2026, 7, 11));
+        service.cancelBooking(cancelled.getBookingId());
+
+        UserStatement statement = service.getUserStatement(1, 0, 10);
+
+        assertEquals(2, statement.getTotalBookings());
+        assertEquals(2000, statement.getTotalSpent());
+        assertEquals(2000, statement.getLines().get(1).getRunningTotal());
+    }
+
+    @Test
+    @DisplayName("Should return empty statement for user without bookings")
+    void testEmptyUserStatement() {
+        service.setUser(1, 5000);
+
+        UserStatement statement = service.getUserStatement(1, 0, 10);
+
+        assertEquals(0, statement.getTotalBookings());
+        assertEquals(0, statement.getTotalSpent());
+        assertTrue(statement.getLines().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid statement requests")
+    void testInvalidUserStatement() {
+        service.setUser(1, 5000);
+
+        assertThrows(IllegalArgumentException.class, () -> service.getUserStatement(999, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.getUserStatement(1, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.getUserStatement(1, 0, 0));
     }
 
     // ========== SORTING TESTS ==========
@@ -325,8 +625,8 @@ public class ServiceTest {
         service.setRoom(3, RoomType.SUITE, 3000);
 
         // Latest should be room 3
-        assertTrue(service.rooms.get(2).getCreatedAt()
-                .after(service.rooms.get(0).getCreatedAt()));
+        assertTrue(service.getRooms().get(2).getCreatedAt()
+                .after(service.getRooms().get(0).getCreatedAt()));
     }
 
     @Test
@@ -345,7 +645,7 @@ public class ServiceTest {
         Date checkOut2 = createDate(2026, 7, 11);
         service.bookRoom(1, 1, checkIn2, checkOut2);
 
-        assertTrue(service.bookings.get(1).getCreatedAt()
-                .after(service.bookings.get(0).getCreatedAt()));
+        assertTrue(service.getBookings().get(1).getCreatedAt()
+                .after(service.getBookings().get(0).getCreatedAt()));
     }
 }
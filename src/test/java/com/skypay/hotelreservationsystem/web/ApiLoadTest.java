@@ -0,0 +1,176 @@
+package com.skypay.hotelreservationsystem.web;
+
+import com.skypay.hotelreservationsystem.domain.enums.RoomType;
+import com.skypay.hotelreservationsystem.service.Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Keep-alive connections of the client would otherwise hold up the graceful shutdown
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.shutdown=immediate")
+public class ApiLoadTest {
+    private static final int CONCURRENCY = 16;
+    private static final Duration WARM_UP_DURATION = Duration.ofSeconds(2);
+    private static final Duration LOAD_DURATION = Duration.ofSeconds(3);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Service service;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 50; i++) {
+            service.setRoom(i, RoomType.values()[i % RoomType.values().length], 100 * i);
+            service.setUser(i, 1_000_000);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path));
+    }
+
+    private HttpRequest json(String method, String path, String body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should book, search and cancel over HTTP")
+    void testBookingRoundTrip() throws Exception {
+        HttpResponse<String> room = client.send(
+                json("PUT", "/api/rooms/100", "{\"roomType\":\"SUITE\",\"pricePerNight\":3000}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, room.statusCode());
+
+        HttpResponse<String> user = client.send(
+                json("PUT", "/api/users/100", "{\"balance\":20000}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, user.statusCode());
+
+        HttpResponse<String> booking = client.send(
+                json("POST", "/api/bookings",
+                        "{\"userId\":100,\"roomNumber\":100,\"checkIn\":\"2026-07-07\",\"checkOut\":\"2026-07-09\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(201, booking.statusCode());
+        assertTrue(booking.body().contains("\"totalPrice\":6000"));
+
+        HttpResponse<String> conflict = client.send(
+                json("POST", "/api/bookings",
+                        "{\"userId\":100,\"roomNumber\":100,\"checkIn\":\"2026-07-08\",\"checkOut\":\"2026-07-10\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(400, conflict.statusCode());
+        assertTrue(conflict.body().contains("not available"));
+
+        HttpResponse<String> available = client.send(
+                request("/api/rooms/available?checkIn=2026-07-07&checkOut=2026-07-08&roomType=SUITE").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, available.statusCode());
+        assertFalse(available.body().contains("\"roomNumber\":100,"));
+
+        int bookingId = service.getBookings().get(service.getBookings().size() - 1).getBookingId();
+        HttpResponse<String> cancel = client.send(
+                request("/api/bookings/" + bookingId).DELETE().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(204, cancel.statusCode());
+        assertEquals(20000, service.getUser(100).getBalance());
+
+        HttpResponse<String> missing = client.send(
+                request("/api/rooms/999").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(404, missing.statusCode());
+        assertTrue(missing.body().contains("not found"));
+
+        HttpResponse<String> cancelled = client.send(
+                request("/api/bookings/" + bookingId).DELETE().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(404, cancelled.statusCode());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should sustain concurrent availability searches and bookings")
+    void testSustainedThroughput() {
+        AtomicLong bookingDay = new AtomicLong();
+
+        // Let the JIT and the connection pool settle before measuring
+        runLoad(WARM_UP_DURATION, new AtomicLong(), new AtomicLong(), bookingDay);
+
+        AtomicLong completed = new AtomicLong();
+        AtomicLong serverErrors = new AtomicLong();
+        long start = System.nanoTime();
+        runLoad(LOAD_DURATION, completed, serverErrors, bookingDay);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double requestsPerSecond = completed.get() / seconds;
+        System.out.printf("HTTP load: %d requests in %.2fs with %d connections -> %.0f req/s%n",
+                completed.get(), seconds, CONCURRENCY, requestsPerSecond);
+
+        assertEquals(0, serverErrors.get());
+        assertTrue(completed.get() > 0);
+    }
+
+    private void runLoad(Duration duration, AtomicLong completed, AtomicLong serverErrors, AtomicLong bookingDay) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.add(runWorker(i, deadline, completed, serverErrors, bookingDay));
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+    }
+
+    // Each worker keeps exactly one request in flight until the deadline
+    private CompletableFuture<Void> runWorker(int worker, long deadline, AtomicLong completed,
+                                              AtomicLong serverErrors, AtomicLong bookingDay) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpRequest next;
+        if (completed.get() % 4 == 0) {
+            // Spread bookings over distinct nights so most of them succeed
+            long day = bookingDay.incrementAndGet();
+            String checkIn = LocalDate.of(2030, 1, 1).plusDays(day / 50).toString();
+            String checkOut = LocalDate.of(2030, 1, 1).plusDays(day / 50 + 1).toString();
+            next = json("POST", "/api/bookings", String.format(
+                    "{\"userId\":%d,\"roomNumber\":%d,\"checkIn\":\"%s\",\"checkOut\":\"%s\"}",
+                    worker % 50 + 1, day % 50 + 1, checkIn, checkOut));
+        } else {
+            next = request("/api/rooms/available?checkIn=2026-07-07&checkOut=2026-07-09").GET().build();
+        }
+
+        return client.sendAsync(next, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(response -> {
+                    completed.incrementAndGet();
+                    if (response.statusCode() >= 500) {
+                        serverErrors.incrementAndGet();
+                    }
+                    return runWorker(worker, deadline, completed, serverErrors, bookingDay);
+                });
+    }
+}